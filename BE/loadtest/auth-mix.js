@@ -0,0 +1,51 @@
+// k6 scenario used by compare-thread-modes.sh: a login/refresh mix that exercises
+// BCrypt, the token table and the JWT filter at a fixed arrival rate.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = parseInt(__ENV.RATE || '200', 10);
+const DURATION = __ENV.DURATION || '60s';
+const USERS = parseInt(__ENV.USERS || '50', 10);
+const PASSWORD = 'loadtest-password';
+
+export const options = {
+    scenarios: {
+        auth: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const json = { headers: { 'Content-Type': 'application/json' } };
+
+export function setup() {
+    const tokens = [];
+    for (let i = 0; i < USERS; i++) {
+        const email = `loadtest-${i}@example.com`;
+        http.post(`${BASE_URL}/auth/v1/register`, JSON.stringify({
+            firstName: 'Load', lastName: `User${i}`, email, password: PASSWORD,
+        }), json);
+        const res = http.post(`${BASE_URL}/auth/v1/login`, JSON.stringify({ email, password: PASSWORD }), json);
+        tokens.push({ email, refresh: res.json('data.refreshToken') });
+    }
+    return { tokens };
+}
+
+export default function (data) {
+    const u = data.tokens[Math.floor(Math.random() * data.tokens.length)];
+    if (Math.random() < 0.2) {
+        const res = http.post(`${BASE_URL}/auth/v1/login`,
+            JSON.stringify({ email: u.email, password: PASSWORD }), json);
+        check(res, { 'login 200/429': (r) => r.status === 200 || r.status === 429 });
+    } else {
+        const res = http.post(`${BASE_URL}/auth/v1/refresh?token=${encodeURIComponent(u.refresh)}`);
+        check(res, { 'refresh 2xx/4xx': (r) => r.status < 500 });
+    }
+}
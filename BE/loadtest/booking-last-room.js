@@ -0,0 +1,56 @@
+// Flash-sale scenario: many virtual users race to book the same room type for the same
+// night. Seed the room type so that night has ROOMS_LEFT rooms, then run:
+//   k6 run -e ROOM_TYPE_ID=1 -e CHECK_IN=2026-12-24 -e ROOMS_LEFT=1 loadtest/booking-last-room.js
+// The run fails if more bookings succeed than there were rooms (oversell).
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const ROOM_TYPE_ID = parseInt(__ENV.ROOM_TYPE_ID, 10);
+const CHECK_IN = __ENV.CHECK_IN;
+const ROOMS_LEFT = parseInt(__ENV.ROOMS_LEFT || '1', 10);
+const VUS = parseInt(__ENV.VUS || '200', 10);
+const PASSWORD = 'loadtest-password';
+
+const booked = new Counter('bookings_succeeded');
+const soldOut = new Counter('bookings_sold_out');
+const shed = new Counter('bookings_retry_later');
+
+export const options = {
+    scenarios: {
+        race: { executor: 'per-vu-iterations', vus: VUS, iterations: 1, maxDuration: '60s' },
+    },
+    thresholds: {
+        bookings_succeeded: [`count<=${ROOMS_LEFT}`],
+    },
+};
+
+const json = { headers: { 'Content-Type': 'application/json' } };
+
+function nextDay(isoDate) {
+    const d = new Date(isoDate + 'T00:00:00Z');
+    d.setUTCDate(d.getUTCDate() + 1);
+    return d.toISOString().slice(0, 10);
+}
+
+export function setup() {
+    const email = 'loadtest-booker@example.com';
+    http.post(`${BASE_URL}/auth/v1/register`, JSON.stringify({
+        firstName: 'Load', lastName: 'Booker', email, password: PASSWORD,
+    }), json);
+    const res = http.post(`${BASE_URL}/auth/v1/login`, JSON.stringify({ email, password: PASSWORD }), json);
+    return { accessToken: res.json('data.accessToken') };
+}
+
+export default function (data) {
+    const res = http.post(`${BASE_URL}/bookings/v1`, JSON.stringify({
+        roomTypeId: ROOM_TYPE_ID, checkIn: CHECK_IN, checkOut: nextDay(CHECK_IN), adultsCount: 1,
+    }), { headers: { ...json.headers, Authorization: `Bearer ${data.accessToken}` } });
+
+    if (res.status === 200) booked.add(1);
+    else if (res.status === 429) shed.add(1);
+    else soldOut.add(1);
+
+    check(res, { 'no server error': (r) => r.status < 500 });
+}
@@ -0,0 +1,66 @@
+#!/usr/bin/env bash
+# Runs the same k6 scenario against the BE jar twice -- once with a bare datasource URL and
+# Hikari defaults, once with the prod profile (pool sized from cores, Connector/J statement
+# cache, batch rewriting) -- and prints latency, pool wait and, when the mysql client is
+# available, how many statements the server had to prepare in each run.
+#
+# Requirements: a running, seeded MySQL reachable with DB_URL/DB_USER/DB_PASSWORD; k6, jq, curl.
+# Usage: ./loadtest/compare-datasource-profiles.sh [scenario.js]   (from the BE directory)
+set -euo pipefail
+
+SCENARIO="${1:-loadtest/datasource-mix.js}"
+PORT="${PORT:-8080}"
+DB_URL="${DB_URL:-jdbc:mysql://localhost:3306/server?allowPublicKeyRetrieval=true&useSSL=false}"
+DB_USER="${DB_USER:-root}"
+DB_PASSWORD="${DB_PASSWORD:-a@1234}"
+OUT_DIR="build/loadtest"
+mkdir -p "$OUT_DIR"
+
+sh ./gradlew -q bootJar
+JAR=$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -n 1)
+
+prepared() {
+    command -v mysql > /dev/null || { echo "-"; return; }
+    mysql -N -u"$DB_USER" -p"$DB_PASSWORD" -e "SHOW GLOBAL STATUS LIKE 'Com_stmt_prepare'" 2>/dev/null | awk '{print $2}'
+}
+
+run_profile() {
+    local name="$1"; shift
+    echo ">> starting BE ($name)"
+    java -jar "$JAR" --server.port="$PORT" \
+        --spring.datasource.url="$DB_URL" \
+        --spring.datasource.username="$DB_USER" \
+        --spring.datasource.password="$DB_PASSWORD" \
+        "$@" > "$OUT_DIR/app-$name.log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null || true" EXIT
+
+    until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do sleep 1; done
+
+    local before; before=$(prepared)
+    k6 run --quiet --summary-export "$OUT_DIR/summary-$name.json" \
+        -e BASE_URL="http://localhost:$PORT" "$SCENARIO"
+    local after; after=$(prepared)
+    if [[ "$before" != "-" ]]; then echo $((after - before)) > "$OUT_DIR/prepared-$name.txt"; else echo "-" > "$OUT_DIR/prepared-$name.txt"; fi
+
+    # longest recent wait for a pooled connection (Micrometer max over its rolling window)
+    curl -sf "http://localhost:$PORT/actuator/prometheus" \
+        | grep '^hikaricp_connections_acquire_seconds_max' | awk '{print $2 * 1000}' | head -n 1 \
+        > "$OUT_DIR/acquire-max-$name.txt" || echo "-" > "$OUT_DIR/acquire-max-$name.txt"
+
+    kill "$pid"; wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+run_profile default
+run_profile prod --spring.profiles.active=prod
+
+printf '\n%-8s %8s %8s %8s %8s %14s %12s\n' profile req/s p50_ms p95_ms p99_ms acquire_max_ms prepared
+for name in default prod; do
+    stats=$(jq -r '[(.metrics.http_reqs.rate | floor),
+        (.metrics.http_req_duration["p(50)"] | floor),
+        (.metrics.http_req_duration["p(95)"] | floor),
+        (.metrics.http_req_duration["p(99)"] | floor)] | @tsv' "$OUT_DIR/summary-$name.json")
+    printf '%-8s %8s %8s %8s %8s %14s %12s\n' "$name" $stats \
+        "$(cat "$OUT_DIR/acquire-max-$name.txt")" "$(cat "$OUT_DIR/prepared-$name.txt")"
+done
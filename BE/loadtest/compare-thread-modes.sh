@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# Runs the same k6 scenario against the BE jar twice -- once on platform threads, once on
+# virtual threads -- and prints the latency/throughput summary of each run side by side.
+#
+# Requirements: a running MySQL matching application.properties, k6 and jq on PATH.
+# Usage: ./loadtest/compare-thread-modes.sh [scenario.js]   (from the BE directory)
+set -euo pipefail
+
+SCENARIO="${1:-loadtest/auth-mix.js}"
+PORT="${PORT:-8080}"
+OUT_DIR="build/loadtest"
+mkdir -p "$OUT_DIR"
+
+sh ./gradlew -q bootJar
+JAR=$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -n 1)
+
+run_mode() {
+    local mode="$1" virtual="$2"
+    echo ">> starting BE with spring.threads.virtual.enabled=$virtual"
+    java -Djdk.tracePinnedThreads=short -jar "$JAR" \
+        --server.port="$PORT" \
+        --spring.threads.virtual.enabled="$virtual" \
+        > "$OUT_DIR/app-$mode.log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null || true" EXIT
+
+    until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do sleep 1; done
+
+    k6 run --quiet --summary-export "$OUT_DIR/summary-$mode.json" \
+        -e BASE_URL="http://localhost:$PORT" "$SCENARIO"
+
+    kill "$pid"; wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+run_mode platform false
+run_mode virtual true
+
+printf '\n%-10s %10s %10s %10s %10s\n' mode req/s p50_ms p95_ms p99_ms
+for mode in platform virtual; do
+    jq -r --arg m "$mode" '[$m,
+        (.metrics.http_reqs.rate | floor),
+        (.metrics.http_req_duration["p(50)"] | floor),
+        (.metrics.http_req_duration["p(95)"] | floor),
+        (.metrics.http_req_duration["p(99)"] | floor)] | @tsv' \
+        "$OUT_DIR/summary-$mode.json" | xargs printf '%-10s %10s %10s %10s %10s\n'
+done
+echo
+echo "Pinned-thread traces (virtual run): $(grep -c 'VirtualThread' "$OUT_DIR/app-virtual.log" || true)"
@@ -0,0 +1,72 @@
+// k6 scenario used by compare-datasource-profiles.sh: read-heavy traffic (search, hotel
+// detail, batch quotes) plus bookings, at a fixed arrival rate. The same few statement shapes
+// repeat constantly, which is where prepared-statement caching pays off.
+//   k6 run -e HOTEL_IDS=1,2,3 -e ROOM_TYPE_IDS=1,2,3,4 -e CITY=Hanoi loadtest/datasource-mix.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = parseInt(__ENV.RATE || '300', 10);
+const DURATION = __ENV.DURATION || '60s';
+const CITY = __ENV.CITY || 'Hanoi';
+const HOTEL_IDS = (__ENV.HOTEL_IDS || '1').split(',');
+const ROOM_TYPE_IDS = (__ENV.ROOM_TYPE_IDS || '1').split(',').map((id) => parseInt(id, 10));
+const PASSWORD = 'loadtest-password';
+
+export const options = {
+    scenarios: {
+        mix: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const json = { headers: { 'Content-Type': 'application/json' } };
+
+function isoDay(offset) {
+    const d = new Date();
+    d.setUTCDate(d.getUTCDate() + offset);
+    return d.toISOString().slice(0, 10);
+}
+
+function pick(list) {
+    return list[Math.floor(Math.random() * list.length)];
+}
+
+export function setup() {
+    const email = 'loadtest-datasource@example.com';
+    http.post(`${BASE_URL}/auth/v1/register`, JSON.stringify({
+        firstName: 'Load', lastName: 'Datasource', email, password: PASSWORD,
+    }), json);
+    const res = http.post(`${BASE_URL}/auth/v1/login`, JSON.stringify({ email, password: PASSWORD }), json);
+    return { access: res.json('data.accessToken') };
+}
+
+export default function (data) {
+    const offset = 14 + Math.floor(Math.random() * 60);
+    const checkIn = isoDay(offset);
+    const checkOut = isoDay(offset + 1 + Math.floor(Math.random() * 4));
+    const roll = Math.random();
+    let res;
+    if (roll < 0.45) {
+        res = http.get(`${BASE_URL}/hotels/v1/search?city=${CITY}&checkIn=${checkIn}&checkOut=${checkOut}&guests=2`,
+            { tags: { name: 'search' } });
+    } else if (roll < 0.75) {
+        res = http.get(`${BASE_URL}/hotels/v1/${pick(HOTEL_IDS)}`, { tags: { name: 'detail' } });
+    } else if (roll < 0.95) {
+        res = http.post(`${BASE_URL}/pricing/v1/quotes`,
+            JSON.stringify({ roomTypeIds: ROOM_TYPE_IDS, checkIn, checkOut }), { ...json, tags: { name: 'quotes' } });
+    } else {
+        res = http.post(`${BASE_URL}/bookings/v1`,
+            JSON.stringify({ roomTypeId: pick(ROOM_TYPE_IDS), checkIn, checkOut, adultsCount: 2 }),
+            { headers: { ...json.headers, Authorization: `Bearer ${data.access}` }, tags: { name: 'booking' } });
+    }
+    // a sold-out booking is a 400, not a failure of the datasource
+    check(res, { 'no 5xx': (r) => r.status < 500 });
+}
@@ -0,0 +1,32 @@
+package java_web.be.bench;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java_web.be.dtos.response.ApiResponse;
+import java_web.be.dtos.response.AuthResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** Response body of /auth/v1/login and /refresh, written the way the message converter does. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    private ObjectMapper mapper;
+    private ApiResponse<AuthResponse> body;
+
+    @Setup
+    public void setup() {
+        mapper = new ObjectMapper();
+        String access = JwtTokenProviderBenchmark.newProvider(0)
+                .generateAccessToken(JwtTokenProviderBenchmark.sampleUser());
+        body = new ApiResponse<>(true, new AuthResponse(access, access, "CUSTOMER"), "Login successful");
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(body);
+    }
+}
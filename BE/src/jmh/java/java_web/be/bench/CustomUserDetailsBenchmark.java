@@ -0,0 +1,34 @@
+package java_web.be.bench;
+
+import java_web.be.model.User;
+import java_web.be.security.CustomUserDetails;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** The principal is built once per authenticated request, from the entity or from claims. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CustomUserDetailsBenchmark {
+
+    private User user;
+    private List<String> roleNames;
+
+    @Setup
+    public void setup() {
+        user = JwtTokenProviderBenchmark.sampleUser();
+        roleNames = List.of("CUSTOMER");
+    }
+
+    @Benchmark
+    public CustomUserDetails fromUser() {
+        return new CustomUserDetails(user);
+    }
+
+    @Benchmark
+    public CustomUserDetails fromClaims() {
+        return new CustomUserDetails(42L, "bench@example.com", roleNames);
+    }
+}
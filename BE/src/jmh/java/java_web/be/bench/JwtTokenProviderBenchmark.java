@@ -0,0 +1,81 @@
+package java_web.be.bench;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java_web.be.model.Role;
+import java_web.be.model.User;
+import java_web.be.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request JWT work: signing at login/refresh, and validation + claim extraction in
+ * JwtAuthenticationFilter. claimsCacheSize=0 measures the HMAC/parse path, the default size
+ * measures the cached path every request after the first one hits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtTokenProviderBenchmark {
+
+    @Param({"0", "10000"})
+    public long claimsCacheSize;
+
+    private JwtTokenProvider provider;
+    private User user;
+    private String accessToken;
+
+    @Setup
+    public void setup() {
+        provider = newProvider(claimsCacheSize);
+        user = sampleUser();
+        accessToken = provider.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return provider.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return provider.generateRefreshToken(user.getEmail());
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return provider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public String extractSubject() {
+        return provider.extractClaim(accessToken, Claims::getSubject);
+    }
+
+    static JwtTokenProvider newProvider(long claimsCacheSize) {
+        JwtTokenProvider provider = new JwtTokenProvider(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(provider, "jwtSecret", "benchmark-secret-benchmark-secret-benchmark-secret-0123456789");
+        ReflectionTestUtils.setField(provider, "accessTokenExpMs", 3_600_000L);
+        ReflectionTestUtils.setField(provider, "refreshTokenExpMs", 604_800_000L);
+        ReflectionTestUtils.setField(provider, "claimsCacheSize", claimsCacheSize);
+        provider.init();
+        return provider;
+    }
+
+    static User sampleUser() {
+        Set<Role> roles = new HashSet<>();
+        roles.add(Role.builder().roleId(1L).roleName("CUSTOMER").build());
+        return User.builder()
+                .userId(42L)
+                .email("bench@example.com")
+                .firstName("Bench")
+                .lastName("User")
+                .passwordHash("$2a$10$abcdefghijklmnopqrstuuN0Z9F6gXgYlq0nU1Qw1f1b5kK3Kq4e6")
+                .roles(roles)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package java_web.be.bench;
+
+import java_web.be.pricing.PriceQuote;
+import java_web.be.pricing.PricingEngine;
+import java_web.be.pricing.PricingProperties;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Quotes per second of the compiled rules, with the rule set from application.properties. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PricingEngineBenchmark {
+
+    @Param({"1", "7", "30"})
+    public int nights;
+
+    private PricingEngine engine;
+    private LocalDate checkIn;
+    private int[] available;
+
+    @Setup
+    public void setup() {
+        engine = new PricingEngine(defaultRules());
+        // spans the year end, so the season wrap and weekend rules are both exercised
+        checkIn = LocalDate.of(2026, 12, 28);
+        available = new int[nights];
+        Arrays.fill(available, 3);
+    }
+
+    @Benchmark
+    public PriceQuote quote() {
+        return engine.quote(125_00L, 20, checkIn, nights, available);
+    }
+
+    static PricingProperties defaultRules() {
+        PricingProperties props = new PricingProperties();
+        props.setWeekendMultiplier(new BigDecimal("1.15"));
+
+        PricingProperties.Season summer = new PricingProperties.Season();
+        summer.setName("summer");
+        summer.setFrom("06-15");
+        summer.setTo("08-31");
+        summer.setMultiplier(new BigDecimal("1.25"));
+        PricingProperties.Season yearEnd = new PricingProperties.Season();
+        yearEnd.setName("year-end");
+        yearEnd.setFrom("12-20");
+        yearEnd.setTo("01-05");
+        yearEnd.setMultiplier(new BigDecimal("1.35"));
+        props.setSeasons(List.of(summer, yearEnd));
+
+        PricingProperties.OccupancyTier busy = new PricingProperties.OccupancyTier();
+        busy.setMinOccupancy(0.70);
+        busy.setMultiplier(new BigDecimal("1.10"));
+        PricingProperties.OccupancyTier full = new PricingProperties.OccupancyTier();
+        full.setMinOccupancy(0.90);
+        full.setMultiplier(new BigDecimal("1.25"));
+        props.setOccupancy(List.of(busy, full));
+
+        PricingProperties.LengthOfStay week = new PricingProperties.LengthOfStay();
+        week.setMinNights(7);
+        week.setDiscount(new BigDecimal("0.05"));
+        PricingProperties.LengthOfStay twoWeeks = new PricingProperties.LengthOfStay();
+        twoWeeks.setMinNights(14);
+        twoWeeks.setDiscount(new BigDecimal("0.10"));
+        props.setLengthOfStay(List.of(week, twoWeeks));
+        return props;
+    }
+}
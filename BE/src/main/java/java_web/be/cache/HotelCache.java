@@ -0,0 +1,148 @@
+package java_web.be.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java_web.be.dtos.response.HotelDetailResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Read-through caches for hotel detail pages and room-type pricing data.
+ * <p>
+ * Concurrent misses for the same key share one in-flight future, so a thundering herd on a
+ * promoted hotel costs exactly one database load. The load itself runs on the first caller's
+ * thread (inside its transaction, without holding any cache lock). Entries are bounded by size
+ * and TTL and are invalidated from Hotel/RoomType writes; per-cache hit rate and load latency
+ * are published as cache.* metrics.
+ * <p>
+ * With the read replica on, a miss inside a read-only transaction loads from the replica, which
+ * may not have applied the write that caused the invalidation yet. Each invalidation is
+ * therefore repeated once, after max-lag-seconds plus one lag-check interval. By then any
+ * replica that still takes reads has applied the write. A stale reload is therefore evicted
+ * after about that long instead of living for the whole TTL. A load that is still in flight
+ * when the repeat runs is dropped with it. The bound is approximate, because
+ * Seconds_Behind_Source only has 1 s resolution.
+ */
+@Component
+@RequiredArgsConstructor
+public class HotelCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.cache.hotel-detail.max-size:10000}")
+    private long hotelDetailMaxSize;
+
+    @Value("${app.cache.hotel-detail.ttl-seconds:300}")
+    private long hotelDetailTtlSeconds;
+
+    @Value("${app.cache.room-type.max-size:50000}")
+    private long roomTypeMaxSize;
+
+    @Value("${app.cache.room-type.ttl-seconds:600}")
+    private long roomTypeTtlSeconds;
+
+    @Value("${app.datasource.replica.enabled:false}")
+    private boolean replicaEnabled;
+
+    @Value("${app.datasource.replica.max-lag-seconds:5}")
+    private long replicaMaxLagSeconds;
+
+    @Value("${app.datasource.replica.lag-check-ms:1000}")
+    private long replicaLagCheckMs;
+
+    private AsyncCache<Long, HotelDetailResponse> hotelDetails;
+    private AsyncCache<Long, RoomTypeSnapshot> roomTypes;
+    // null while reads all go to the primary
+    private Executor reinvalidation;
+
+    @PostConstruct
+    public void init() {
+        hotelDetails = Caffeine.newBuilder()
+                .maximumSize(hotelDetailMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(hotelDetailTtlSeconds))
+                .recordStats()
+                .buildAsync();
+        roomTypes = Caffeine.newBuilder()
+                .maximumSize(roomTypeMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(roomTypeTtlSeconds))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, hotelDetails.synchronous(), "hotelDetail");
+        CaffeineCacheMetrics.monitor(meterRegistry, roomTypes.synchronous(), "roomType");
+        if (replicaEnabled) {
+            reinvalidation = CompletableFuture.delayedExecutor(
+                    TimeUnit.SECONDS.toMillis(replicaMaxLagSeconds) + replicaLagCheckMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public HotelDetailResponse getHotelDetail(Long hotelId, Function<Long, HotelDetailResponse> loader) {
+        return getOrLoad(hotelDetails, hotelId, loader);
+    }
+
+    public RoomTypeSnapshot getRoomType(Long roomTypeId, Function<Long, RoomTypeSnapshot> loader) {
+        return getOrLoad(roomTypes, roomTypeId, loader);
+    }
+
+    public void invalidateHotel(Long hotelId) {
+        invalidate(hotelDetails, hotelId);
+    }
+
+    public void invalidateRoomType(Long roomTypeId, Long hotelId) {
+        invalidate(roomTypes, roomTypeId);
+        if (hotelId != null) {
+            invalidateHotel(hotelId);
+        }
+    }
+
+    private void invalidate(AsyncCache<Long, ?> cache, Long key) {
+        cache.synchronous().invalidate(key);
+        if (reinvalidation != null) {
+            reinvalidation.execute(() -> cache.synchronous().invalidate(key));
+        }
+    }
+
+    private <V> V getOrLoad(AsyncCache<Long, V> cache, Long key, Function<Long, V> loader) {
+        CompletableFuture<V> pending = new CompletableFuture<>();
+        boolean[] owner = {false};
+        // the mapping function only hands back an empty future; the actual load happens
+        // below, outside the cache's internal lock
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> {
+            owner[0] = true;
+            return pending;
+        });
+
+        if (owner[0]) {
+            try {
+                pending.complete(loader.apply(key));
+            } catch (Throwable ex) {
+                // Errors too: a never-completed future would park every later caller of this
+                // key. Failed futures are dropped by the cache, so the next caller retries.
+                pending.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            if (ex.getCause() instanceof Error err) {
+                throw err;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package java_web.be.cache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java_web.be.model.Hotel;
+import java_web.be.model.RoomType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener for Hotel and RoomType. Invalidates the matching HotelCache entries once
+ * the writing transaction commits, so a concurrent reader cannot re-cache the old row, and
+ * applies hotel name/city changes to HotelSuggestIndex at the same point.
+ * Writes from other nodes are picked up by HotelCacheInvalidationJob via updated_at.
+ */
+@Component
+@RequiredArgsConstructor
+public class HotelCacheInvalidationListener {
+
+    private final HotelCache hotelCache;
+    private final HotelSuggestIndex suggestIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onChange(Object entity) {
+        if (entity instanceof Hotel hotel) {
+            Long hotelId = hotel.getHotelId();
+            // read now: the entity may be changed again before the commit callback runs
+            String name = hotel.getHotelName();
+            String city = hotel.getCity();
+            String country = hotel.getCountry();
+            afterCommit(() -> {
+                hotelCache.invalidateHotel(hotelId);
+                suggestIndex.upsert(hotelId, name, city, country);
+            });
+        } else {
+            onRoomTypeChange(entity);
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Hotel hotel) {
+            Long hotelId = hotel.getHotelId();
+            afterCommit(() -> {
+                hotelCache.invalidateHotel(hotelId);
+                suggestIndex.remove(hotelId);
+            });
+        } else {
+            onRoomTypeChange(entity);
+        }
+    }
+
+    private void onRoomTypeChange(Object entity) {
+        if (entity instanceof RoomType roomType) {
+            Long hotelId = roomType.getHotel() != null ? roomType.getHotel().getHotelId() : null;
+            afterCommit(() -> hotelCache.invalidateRoomType(roomType.getRoomTypeId(), hotelId));
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
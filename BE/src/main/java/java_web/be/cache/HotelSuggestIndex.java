@@ -0,0 +1,265 @@
+package java_web.be.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongFunction;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory prefix index for city and hotel-name autocomplete. Keys are lower-cased and
+ * accent-folded ("Hà Nội" -> "ha noi") in sorted maps, so a lookup is one range scan with no
+ * database round trip. Hotel names are indexed at every word start, so "sher" finds
+ * "Hanoi Sheraton".
+ * <p>
+ * Reads are lock-free. Hotel writes are applied after commit through
+ * HotelCacheInvalidationListener. A rebuild (HotelSuggestIndexJob) loads every hotel into a new
+ * index on a background thread while writes keep going to the live one. Those writes are also
+ * queued and replayed onto the new index before it is swapped in, so nothing committed during
+ * the rebuild is lost.
+ * <p>
+ * Has no repository dependency of its own: Hibernate creates the entity listener, and with it
+ * this bean, while the EntityManagerFactory is still being built.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotelSuggestIndex {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    private static final char SEPARATOR = '\u0000';
+
+    private final MeterRegistry meterRegistry;
+
+    private final Object writeLock = new Object();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // writes committed while a rebuild is loading; replayed onto the new index (guarded by writeLock)
+    private List<HotelEntry> pending;
+
+    private volatile Index current = new Index();
+    private ExecutorService rebuildExecutor;
+    private Timer rebuildTimer;
+
+    public record HotelEntry(Long hotelId, String hotelName, String city, String country, boolean removed) {
+        public HotelEntry(Long hotelId, String hotelName, String city, String country) {
+            this(hotelId, hotelName, city, country, false);
+        }
+
+        static HotelEntry removed(Long hotelId) {
+            return new HotelEntry(hotelId, null, null, null, true);
+        }
+    }
+
+    public record CityEntry(String city, String country, int hotelCount) {
+    }
+
+    @PostConstruct
+    public void init() {
+        rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "hotel-suggest-rebuild");
+            t.setDaemon(true);
+            return t;
+        });
+        rebuildTimer = Timer.builder("search.suggest.rebuild").register(meterRegistry);
+        Gauge.builder("search.suggest.hotels", this, i -> i.current.hotels.size()).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * Starts a background rebuild. {@code pageLoader} is called with the last hotel id loaded
+     * (0 at first) until it returns an empty page. Returns false if a rebuild is already running.
+     */
+    public boolean rebuildAsync(LongFunction<List<HotelEntry>> pageLoader) {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        synchronized (writeLock) {
+            pending = new ArrayList<>();
+        }
+        rebuildExecutor.execute(() -> {
+            try {
+                rebuildTimer.record(() -> rebuild(pageLoader));
+            } catch (RuntimeException ex) {
+                log.warn("Hotel suggest index rebuild failed, keeping the current index", ex);
+                synchronized (writeLock) {
+                    pending = null;
+                }
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+        return true;
+    }
+
+    public boolean isRebuilding() {
+        return rebuilding.get();
+    }
+
+    private void rebuild(LongFunction<List<HotelEntry>> pageLoader) {
+        Index next = new Index();
+        long afterId = 0L;
+        List<HotelEntry> page;
+        while (!(page = pageLoader.apply(afterId)).isEmpty()) {
+            for (HotelEntry entry : page) {
+                next.put(entry);
+                afterId = entry.hotelId();
+            }
+        }
+
+        synchronized (writeLock) {
+            // in commit order, so the last write to a hotel wins over the row loaded above
+            pending.forEach(next::apply);
+            pending = null;
+            current = next;
+        }
+        log.info("Hotel suggest index rebuilt with {} hotels", next.hotels.size());
+    }
+
+    public void upsert(Long hotelId, String hotelName, String city, String country) {
+        apply(new HotelEntry(hotelId, hotelName, city, country));
+    }
+
+    public void remove(Long hotelId) {
+        apply(HotelEntry.removed(hotelId));
+    }
+
+    private void apply(HotelEntry entry) {
+        synchronized (writeLock) {
+            current.apply(entry);
+            if (pending != null) {
+                pending.add(entry);
+            }
+        }
+    }
+
+    public List<CityEntry> suggestCities(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        List<CityEntry> result = new ArrayList<>(limit);
+        for (CityEntry city : current.cities.subMap(key, key + Character.MAX_VALUE).values()) {
+            result.add(city);
+            if (result.size() == limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    public List<HotelEntry> suggestHotels(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        // a name matches once per matching word; keep the first (best-sorted) hit per hotel
+        Map<Long, HotelEntry> result = new LinkedHashMap<>();
+        for (HotelEntry hotel : current.names.subMap(key, key + Character.MAX_VALUE).values()) {
+            result.putIfAbsent(hotel.hotelId(), hotel);
+            if (result.size() == limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(result.values());
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .replace('đ', 'd').replace('Đ', 'D');
+        return SPACES.matcher(folded.toLowerCase(Locale.ROOT).trim()).replaceAll(" ");
+    }
+
+    /**
+     * One generation of the index. Mutated only under writeLock; read concurrently.
+     */
+    private static final class Index {
+        // hotelId -> entry as indexed, needed to remove its old keys on update
+        final Map<Long, HotelEntry> hotels = new ConcurrentHashMap<>();
+        // "<name from a word start>\0<hotelId>" -> entry
+        final ConcurrentSkipListMap<String, HotelEntry> names = new ConcurrentSkipListMap<>();
+        // "<city>\0<country>" -> city with its hotel count
+        final ConcurrentSkipListMap<String, CityEntry> cities = new ConcurrentSkipListMap<>();
+
+        void apply(HotelEntry entry) {
+            if (entry.removed()) {
+                drop(entry.hotelId());
+            } else {
+                put(entry);
+            }
+        }
+
+        void put(HotelEntry entry) {
+            drop(entry.hotelId());
+            hotels.put(entry.hotelId(), entry);
+            for (String key : nameKeys(entry)) {
+                names.put(key, entry);
+            }
+            String city = cityKey(entry);
+            if (city != null) {
+                CityEntry existing = cities.get(city);
+                cities.put(city, existing == null
+                        ? new CityEntry(entry.city(), entry.country(), 1)
+                        : new CityEntry(existing.city(), existing.country(), existing.hotelCount() + 1));
+            }
+        }
+
+        void drop(Long hotelId) {
+            HotelEntry old = hotels.remove(hotelId);
+            if (old == null) {
+                return;
+            }
+            for (String key : nameKeys(old)) {
+                names.remove(key);
+            }
+            String city = cityKey(old);
+            CityEntry existing = city != null ? cities.get(city) : null;
+            if (existing != null) {
+                if (existing.hotelCount() <= 1) {
+                    cities.remove(city);
+                } else {
+                    cities.put(city, new CityEntry(existing.city(), existing.country(), existing.hotelCount() - 1));
+                }
+            }
+        }
+
+        private static String cityKey(HotelEntry entry) {
+            String city = normalize(entry.city());
+            return city.isEmpty() ? null : city + SEPARATOR + normalize(entry.country());
+        }
+
+        private static List<String> nameKeys(HotelEntry entry) {
+            String name = normalize(entry.hotelName());
+            if (name.isEmpty()) {
+                return List.of();
+            }
+            List<String> keys = new ArrayList<>();
+            String suffix = SEPARATOR + entry.hotelId().toString();
+            keys.add(name + suffix);
+            for (int i = name.indexOf(' '); i >= 0; i = name.indexOf(' ', i + 1)) {
+                keys.add(name.substring(i + 1) + suffix);
+            }
+            return keys;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package java_web.be.cache;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable copy of the RoomType fields read on the booking and pricing paths.
+ */
+public record RoomTypeSnapshot(Long roomTypeId, Long hotelId, BigDecimal basePrice,
+                               Integer capacity, Integer totalRooms) {
+}
@@ -0,0 +1,67 @@
+package java_web.be.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Primary + replica pools behind one routing DataSource (app.datasource.replica.enabled=true).
+ * Both pools take the spring.datasource.hikari.* tuning; the replica's
+ * app.datasource.replica.hikari.* entries override it. Each pool keeps its own name, so the
+ * hikaricp.* meters come out per pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public DataSource primaryDataSource(DataSourceProperties props, Environment env) {
+        HikariDataSource ds = props.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(env).bind("spring.datasource.hikari", Bindable.ofInstance(ds));
+        ds.setPoolName("primary");
+        return ds;
+    }
+
+    @Bean
+    public DataSource replicaDataSource(DataSourceProperties props, Environment env) {
+        HikariDataSource ds = props.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder binder = Binder.get(env);
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(ds));
+        binder.bind("app.datasource.replica.hikari", Bindable.ofInstance(ds));
+        ds.setJdbcUrl(env.getRequiredProperty("app.datasource.replica.url"));
+        ds.setUsername(env.getProperty("app.datasource.replica.username", props.determineUsername()));
+        ds.setPassword(env.getProperty("app.datasource.replica.password", props.determinePassword()));
+        // replica connections never write
+        ds.setReadOnly(true);
+        ds.setPoolName("replica");
+        return ds;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+                                               Environment env, MeterRegistry meterRegistry) {
+        long maxLagSeconds = env.getProperty("app.datasource.replica.max-lag-seconds", Long.class, 5L);
+        boolean checkLag = env.getProperty("app.datasource.replica.check-lag", Boolean.class, true);
+        return new ReplicaLagMonitor(replica, maxLagSeconds, checkLag, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replica, lagMonitor, meterRegistry));
+    }
+}
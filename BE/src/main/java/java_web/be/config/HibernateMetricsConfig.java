@@ -0,0 +1,20 @@
+package java_web.be.config;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.HibernateMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Publishes Hibernate statistics, including per-region second-level/query cache hits and misses
+// (hibernate.second.level.cache.requests, hibernate.query.cache.requests).
+@Configuration
+public class HibernateMetricsConfig {
+
+    @Bean
+    public MeterBinder hibernateMetrics(EntityManagerFactory emf) {
+        return new HibernateMetrics(emf.unwrap(SessionFactory.class), "default", Tags.empty());
+    }
+}
@@ -0,0 +1,52 @@
+package java_web.be.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Sizes every Hikari pool from the database's core count, (cores * 2) + effective spindles,
+ * as a fixed-size pool (minimumIdle = maximumPoolSize). Runs after the spring.datasource.hikari.*
+ * binding, so an explicit maximum-pool-size / minimum-idle still wins, and for the replica pool
+ * so does one under app.datasource.replica.hikari.*.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.pool.size-from-cores", havingValue = "true")
+public class HikariPoolConfig {
+
+    @Bean
+    public static BeanPostProcessor hikariPoolSizer(Environment env) {
+        // 0 = this host's cores, for when MySQL runs on comparable hardware
+        int dbCores = env.getProperty("app.datasource.pool.db-cores", Integer.class, 0);
+        int spindles = env.getProperty("app.datasource.pool.effective-spindles", Integer.class, 1);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof HikariDataSource hikari && !isSet(env, beanName, "maximum-pool-size")) {
+                    int cores = dbCores > 0 ? dbCores : Runtime.getRuntime().availableProcessors();
+                    int size = cores * 2 + spindles;
+                    hikari.setMaximumPoolSize(size);
+                    if (!isSet(env, beanName, "minimum-idle")) {
+                        hikari.setMinimumIdle(size);
+                    }
+                    log.info("Hikari pool {} sized to {} connections ({} cores, {} spindles)",
+                            hikari.getPoolName() != null ? hikari.getPoolName() : beanName, size, cores, spindles);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // the prefixes DataSourceRoutingConfig binds into each pool
+    private static boolean isSet(Environment env, String beanName, String key) {
+        return env.containsProperty("spring.datasource.hikari." + key)
+                || ("replicaDataSource".equals(beanName) && env.containsProperty("app.datasource.replica.hikari." + key));
+    }
+}
@@ -0,0 +1,38 @@
+package java_web.be.config;
+
+import java_web.be.model.id.TimeOrderedIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+/**
+ * Gives TimeOrderedIdGenerator this instance's node id before the EntityManagerFactory is
+ * built. Two instances on the same node id hand out the same primary keys, so a missing
+ * app.id.node-id stops startup everywhere except the dev profile, which falls back to 0.
+ */
+@Slf4j
+@Configuration
+public class IdGeneratorConfig {
+
+    public IdGeneratorConfig(Environment env) {
+        Long node = env.getProperty("app.id.node-id", Long.class);
+        if (node == null) {
+            if (!env.acceptsProfiles(Profiles.of("dev"))) {
+                throw new IllegalStateException("app.id.node-id (APP_NODE_ID) is not set. Give every instance "
+                        + "its own value between 0 and " + TimeOrderedIdGenerator.MAX_NODE_ID);
+            }
+            node = 0L;
+        }
+        TimeOrderedIdGenerator.setNodeId(node);
+        log.info("Entity ids use node id {}", node);
+    }
+
+    @Configuration
+    static class EntityManagerFactoryDependsOnIdGenerator extends EntityManagerFactoryDependsOnPostProcessor {
+        EntityManagerFactoryDependsOnIdGenerator() {
+            super(IdGeneratorConfig.class);
+        }
+    }
+}
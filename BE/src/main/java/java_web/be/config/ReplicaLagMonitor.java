@@ -0,0 +1,77 @@
+package java_web.be.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Polls the replica's replication delay (SHOW REPLICA STATUS, Seconds_Behind_Source) and
+ * marks it unusable when it is over the limit, replication is stopped or the replica cannot be
+ * reached. Starts unusable, so reads stay on the primary until the first check passes.
+ * The replica user needs the REPLICATION CLIENT privilege.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replica;
+    private final long maxLagSeconds;
+    private final boolean checkLag;
+
+    private volatile boolean usable;
+    private volatile long lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replica, long maxLagSeconds, boolean checkLag, MeterRegistry meterRegistry) {
+        this.replica = new JdbcTemplate(replica);
+        this.replica.setQueryTimeout(2);
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkLag = checkLag;
+        Gauge.builder("db.replica.lag", this, m -> m.lagSeconds).baseUnit("seconds").register(meterRegistry);
+        Gauge.builder("db.replica.usable", this, m -> m.usable ? 1 : 0).register(meterRegistry);
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-ms:1000}")
+    public void check() {
+        boolean wasUsable = usable;
+        try {
+            if (checkLag) {
+                Long lag = currentLag();
+                lagSeconds = lag != null ? lag : -1;
+                usable = lag != null && lag <= maxLagSeconds;
+            } else {
+                // stand-in replica without replication (local/test setups): only check it answers
+                replica.queryForObject("SELECT 1", Integer.class);
+                lagSeconds = 0;
+                usable = true;
+            }
+        } catch (RuntimeException ex) {
+            lagSeconds = -1;
+            usable = false;
+            if (wasUsable) {
+                log.warn("Replica unreachable, reads go to the primary: {}", ex.getMessage());
+            }
+            return;
+        }
+        if (wasUsable != usable) {
+            log.warn("Replica {} (lag {}s, limit {}s)", usable ? "back in rotation" : "taken out of rotation",
+                    lagSeconds, maxLagSeconds);
+        }
+    }
+
+    // null when replication is not running
+    private Long currentLag() {
+        List<Long> rows = replica.query("SHOW REPLICA STATUS", (rs, i) -> {
+            long lag = rs.getLong("Seconds_Behind_Source");
+            return rs.wasNull() ? null : lag;
+        });
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+}
@@ -0,0 +1,59 @@
+package java_web.be.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Extra wiring for spring.threads.virtual.enabled=true. Boot already moves Tomcat and the
+ * @Async executor onto virtual threads; this puts a connection limiter in front of the pool
+ * so the unbounded number of request threads cannot swamp MySQL. With read/write routing
+ * both the primary and the replica pool get their own limiter.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingPostProcessor(Environment env) {
+        // 0 = as many permits as the pool has connections
+        int configured = env.getProperty("app.datasource.limiter.max-concurrent", Integer.class, 0);
+        long acquireTimeoutMs = env.getProperty("app.datasource.limiter.acquire-timeout-ms", Long.class, 5000L);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof HikariDataSource hikari) {
+                    int permits = configured > 0 ? configured : hikari.getMaximumPoolSize();
+                    return new ConnectionLimitingDataSource(hikari, permits, acquireTimeoutMs);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Hikari's own hikaricp.connections.* meters see through the wrapper; these show the
+    // requests queued in front of it, one set per wrapped pool
+    @Bean
+    public MeterBinder connectionLimiterMetrics(Map<String, DataSource> dataSources) {
+        return registry -> dataSources.forEach((name, ds) -> {
+            if (ds instanceof ConnectionLimitingDataSource limiter) {
+                Gauge.builder("jdbc.connections.limiter.waiting", limiter, ConnectionLimitingDataSource::getWaitingThreads)
+                        .tag("name", name)
+                        .register(registry);
+                Gauge.builder("jdbc.connections.limiter.available", limiter, ConnectionLimitingDataSource::getAvailablePermits)
+                        .tag("name", name)
+                        .register(registry);
+            }
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package java_web.be.controllers;
+
+import jakarta.validation.Valid;
+import java_web.be.dtos.request.BookingExportRequest;
+import java_web.be.model.enums.ExportFormat;
+import java_web.be.services.BookingExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/admin/v1/exports")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminExportController {
+
+    private final BookingExportService bookingExportService;
+
+    @GetMapping("/bookings")
+    public ResponseEntity<StreamingResponseBody> exportBookings(@Valid @ModelAttribute BookingExportRequest req) {
+        // reject bad ranges before the response is committed
+        bookingExportService.validate(req);
+
+        boolean ndjson = req.getFormat() == ExportFormat.NDJSON;
+        String filename = "bookings-" + req.getFrom().getEpochSecond() + "-" + req.getTo().getEpochSecond()
+                + (ndjson ? ".ndjson" : ".csv") + (req.isGzip() ? ".gz" : "");
+        MediaType type = req.isGzip() ? MediaType.parseMediaType("application/gzip")
+                : ndjson ? MediaType.APPLICATION_NDJSON : MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+        StreamingResponseBody body = out -> bookingExportService.export(req, out);
+        return ResponseEntity.ok()
+                .contentType(type)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
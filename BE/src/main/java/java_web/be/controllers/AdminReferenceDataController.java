@@ -0,0 +1,39 @@
+package java_web.be.controllers;
+
+import jakarta.validation.Valid;
+import java_web.be.dtos.request.FacilityRequest;
+import java_web.be.dtos.response.ApiResponse;
+import java_web.be.dtos.response.FacilityResponse;
+import java_web.be.services.ReferenceDataAdminService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/admin/v1")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminReferenceDataController {
+
+    private final ReferenceDataAdminService referenceDataAdminService;
+
+    @PostMapping("/facilities")
+    public ResponseEntity<ApiResponse<FacilityResponse>> createFacility(@Valid @RequestBody FacilityRequest req) {
+        FacilityResponse res = referenceDataAdminService.createFacility(req);
+        return ResponseEntity.ok(new ApiResponse<>(true, res, "Facility created"));
+    }
+
+    @PutMapping("/facilities/{facilityId}")
+    public ResponseEntity<ApiResponse<FacilityResponse>> renameFacility(@PathVariable Long facilityId,
+                                                                       @Valid @RequestBody FacilityRequest req) {
+        FacilityResponse res = referenceDataAdminService.renameFacility(facilityId, req);
+        return ResponseEntity.ok(new ApiResponse<>(true, res, "Facility updated"));
+    }
+
+    @PostMapping("/cache/evict")
+    public ResponseEntity<ApiResponse<Void>> evictReferenceCaches() {
+        referenceDataAdminService.evictReferenceCaches();
+        return ResponseEntity.ok(new ApiResponse<>(true, null, "Reference caches evicted"));
+    }
+}
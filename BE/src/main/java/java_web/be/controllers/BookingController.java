@@ -0,0 +1,45 @@
+package java_web.be.controllers;
+
+import jakarta.validation.Valid;
+import java_web.be.dtos.request.BookingHistoryRequest;
+import java_web.be.dtos.request.CreateBookingRequest;
+import java_web.be.dtos.response.ApiResponse;
+import java_web.be.dtos.response.BookingResponse;
+import java_web.be.dtos.response.CursorPage;
+import java_web.be.security.CustomUserDetails;
+import java_web.be.services.BookingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/bookings/v1")
+@RequiredArgsConstructor
+public class BookingController {
+
+    private final BookingService bookingService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<BookingResponse>> create(@AuthenticationPrincipal CustomUserDetails principal,
+                                                               @Valid @RequestBody CreateBookingRequest req) {
+        BookingResponse res = bookingService.createBooking(principal.getUserId(), req);
+        return ResponseEntity.ok(new ApiResponse<>(true, res, "Booking created"));
+    }
+
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponse<CursorPage<BookingResponse>>> myBookings(@AuthenticationPrincipal CustomUserDetails principal,
+                                                                           @Valid @ModelAttribute BookingHistoryRequest req) {
+        CursorPage<BookingResponse> res = bookingService.getUserBookings(principal.getUserId(), req);
+        return ResponseEntity.ok(new ApiResponse<>(true, res, "OK"));
+    }
+
+    @GetMapping("/room-types/{roomTypeId}")
+    public ResponseEntity<ApiResponse<CursorPage<BookingResponse>>> roomTypeBookings(@AuthenticationPrincipal CustomUserDetails principal,
+                                                                                 @PathVariable Long roomTypeId,
+                                                                                 @Valid @ModelAttribute BookingHistoryRequest req) {
+        boolean admin = principal.getAuthorities().stream().anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
+        CursorPage<BookingResponse> res = bookingService.getRoomTypeBookings(principal.getUserId(), admin, roomTypeId, req);
+        return ResponseEntity.ok(new ApiResponse<>(true, res, "OK"));
+    }
+}
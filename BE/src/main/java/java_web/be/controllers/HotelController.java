@@ -0,0 +1,52 @@
+package java_web.be.controllers;
+
+import jakarta.validation.Valid;
+import java_web.be.dtos.request.HotelSearchRequest;
+import java_web.be.dtos.request.KeywordSearchRequest;
+import java_web.be.dtos.response.ApiResponse;
+import java_web.be.dtos.response.CursorPage;
+import java_web.be.dtos.response.HotelDetailResponse;
+import java_web.be.dtos.response.HotelSearchItem;
+import java_web.be.dtos.response.SuggestResponse;
+import java_web.be.services.HotelDetailService;
+import java_web.be.services.HotelSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/hotels/v1")
+@RequiredArgsConstructor
+public class HotelController {
+
+    private final HotelSearchService hotelSearchService;
+    private final HotelDetailService hotelDetailService;
+
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<CursorPage<HotelSearchItem>>> search(@Valid @ModelAttribute HotelSearchRequest req) {
+        CursorPage<HotelSearchItem> res = hotelSearchService.search(req);
+        return ResponseEntity.ok(new ApiResponse<>(true, res, "OK"));
+    }
+
+    @GetMapping("/search/keyword")
+    public ResponseEntity<ApiResponse<List<HotelSearchItem>>> searchKeyword(@Valid @ModelAttribute KeywordSearchRequest req) {
+        List<HotelSearchItem> res = hotelSearchService.searchKeyword(req);
+        return ResponseEntity.ok(new ApiResponse<>(true, res, "OK"));
+    }
+
+    // typeahead: cities and hotel names starting with q (accents and case ignored)
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<SuggestResponse>> suggest(@RequestParam String q,
+                                                                @RequestParam(defaultValue = "10") int limit) {
+        SuggestResponse res = hotelSearchService.suggest(q, limit);
+        return ResponseEntity.ok(new ApiResponse<>(true, res, "OK"));
+    }
+
+    @GetMapping("/{hotelId}")
+    public ResponseEntity<ApiResponse<HotelDetailResponse>> detail(@PathVariable Long hotelId) {
+        HotelDetailResponse res = hotelDetailService.getHotelDetail(hotelId);
+        return ResponseEntity.ok(new ApiResponse<>(true, res, "OK"));
+    }
+}
@@ -0,0 +1,37 @@
+package java_web.be.controllers;
+
+import jakarta.validation.Valid;
+import java_web.be.dtos.request.CreatePaymentRequest;
+import java_web.be.dtos.response.ApiResponse;
+import java_web.be.dtos.response.PaymentResponse;
+import java_web.be.security.CustomUserDetails;
+import java_web.be.services.PaymentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/bookings/v1/{bookingId}/payment")
+@RequiredArgsConstructor
+public class PaymentController {
+
+    private final PaymentService paymentService;
+
+    // 202: the charge is processed asynchronously; poll GET for the outcome
+    @PostMapping
+    public ResponseEntity<ApiResponse<PaymentResponse>> start(@AuthenticationPrincipal CustomUserDetails principal,
+                                                              @PathVariable Long bookingId,
+                                                              @Valid @RequestBody CreatePaymentRequest req) {
+        PaymentResponse res = paymentService.startPayment(principal.getUserId(), bookingId, req);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new ApiResponse<>(true, res, "Payment accepted"));
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<PaymentResponse>> get(@AuthenticationPrincipal CustomUserDetails principal,
+                                                            @PathVariable Long bookingId) {
+        PaymentResponse res = paymentService.getPayment(principal.getUserId(), bookingId);
+        return ResponseEntity.ok(new ApiResponse<>(true, res, "OK"));
+    }
+}
@@ -0,0 +1,26 @@
+package java_web.be.controllers;
+
+import jakarta.validation.Valid;
+import java_web.be.dtos.request.QuoteRequest;
+import java_web.be.dtos.response.ApiResponse;
+import java_web.be.dtos.response.QuoteResponse;
+import java_web.be.services.PricingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/pricing/v1")
+@RequiredArgsConstructor
+public class PricingController {
+
+    private final PricingService pricingService;
+
+    @PostMapping("/quotes")
+    public ResponseEntity<ApiResponse<List<QuoteResponse>>> quotes(@Valid @RequestBody QuoteRequest req) {
+        List<QuoteResponse> res = pricingService.quote(req);
+        return ResponseEntity.ok(new ApiResponse<>(true, res, "OK"));
+    }
+}
@@ -0,0 +1,34 @@
+package java_web.be.controllers;
+
+import jakarta.validation.Valid;
+import java_web.be.dtos.request.CreateReviewRequest;
+import java_web.be.dtos.response.ApiResponse;
+import java_web.be.dtos.response.ReviewResponse;
+import java_web.be.security.CustomUserDetails;
+import java_web.be.services.ReviewService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/reviews/v1")
+@RequiredArgsConstructor
+public class ReviewController {
+
+    private final ReviewService reviewService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<ReviewResponse>> create(@AuthenticationPrincipal CustomUserDetails principal,
+                                                              @Valid @RequestBody CreateReviewRequest req) {
+        ReviewResponse res = reviewService.createReview(principal.getUserId(), req);
+        return ResponseEntity.ok(new ApiResponse<>(true, res, "Review created"));
+    }
+
+    @DeleteMapping("/{reviewId}")
+    public ResponseEntity<ApiResponse<Void>> delete(@AuthenticationPrincipal CustomUserDetails principal,
+                                                    @PathVariable Long reviewId) {
+        reviewService.deleteReview(principal.getUserId(), reviewId);
+        return ResponseEntity.ok(new ApiResponse<>(true, null, "Review deleted"));
+    }
+}
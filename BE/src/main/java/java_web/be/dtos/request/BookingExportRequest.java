@@ -0,0 +1,24 @@
+package java_web.be.dtos.request;
+
+import jakarta.validation.constraints.NotNull;
+import java_web.be.model.enums.ExportFormat;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.Instant;
+
+@Data
+public class BookingExportRequest {
+    // booking created_at range, [from, to)
+    @NotNull
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Instant from;
+
+    @NotNull
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Instant to;
+
+    private ExportFormat format = ExportFormat.CSV;
+
+    private boolean gzip;
+}
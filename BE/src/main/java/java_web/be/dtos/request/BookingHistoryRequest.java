@@ -0,0 +1,26 @@
+package java_web.be.dtos.request;
+
+import jakarta.validation.constraints.Min;
+import java_web.be.model.enums.BookingStatus;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Data
+public class BookingHistoryRequest {
+    private BookingStatus status;
+
+    // check-in date range, [from, to)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    // opaque cursor from the previous page's nextCursor
+    private String cursor;
+
+    @Min(1)
+    private int size = 20;
+}
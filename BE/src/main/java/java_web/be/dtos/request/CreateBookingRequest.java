@@ -0,0 +1,27 @@
+package java_web.be.dtos.request;
+
+import jakarta.validation.constraints.*;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+public class CreateBookingRequest {
+    @NotNull
+    private Long roomTypeId;
+
+    @NotNull
+    private LocalDate checkIn;
+
+    @NotNull
+    private LocalDate checkOut;
+
+    @Min(1)
+    private int adultsCount = 1;
+
+    @Min(0)
+    private int childrenCount = 0;
+
+    @Min(0)
+    private int infantsCount = 0;
+}
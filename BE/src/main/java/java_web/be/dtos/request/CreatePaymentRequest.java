@@ -0,0 +1,11 @@
+package java_web.be.dtos.request;
+
+import jakarta.validation.constraints.NotNull;
+import java_web.be.model.enums.PaymentMethod;
+import lombok.Data;
+
+@Data
+public class CreatePaymentRequest {
+    @NotNull
+    private PaymentMethod method;
+}
@@ -0,0 +1,16 @@
+package java_web.be.dtos.request;
+
+import jakarta.validation.constraints.*;
+import lombok.Data;
+
+@Data
+public class CreateReviewRequest {
+    @NotNull
+    private Long bookingId;
+
+    @NotNull @Min(1) @Max(5)
+    private Integer rating;
+
+    @Size(max = 5000)
+    private String comment;
+}
@@ -0,0 +1,11 @@
+package java_web.be.dtos.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class FacilityRequest {
+    @NotBlank @Size(max = 255)
+    private String name;
+}
@@ -0,0 +1,34 @@
+package java_web.be.dtos.request;
+
+import jakarta.validation.constraints.*;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+public class HotelSearchRequest {
+    @NotBlank
+    private String city;
+
+    @NotNull
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate checkIn;
+
+    @NotNull
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate checkOut;
+
+    @Min(1)
+    private int guests = 1;
+
+    @DecimalMin("1.0") @DecimalMax("5.0")
+    private BigDecimal minRating;
+
+    // opaque cursor from the previous page's nextCursor
+    private String cursor;
+
+    @Min(1)
+    private int size = 20;
+}
@@ -0,0 +1,19 @@
+package java_web.be.dtos.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class KeywordSearchRequest {
+    // matched against hotel name, city, address and description; every indexed word must match
+    @NotBlank @Size(max = 100)
+    private String q;
+
+    // optional exact city filter
+    private String city;
+
+    @Min(1)
+    private int size = 20;
+}
@@ -0,0 +1,22 @@
+package java_web.be.dtos.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class QuoteRequest {
+    @NotEmpty
+    @Size(max = 500)
+    private List<Long> roomTypeIds;
+
+    @NotNull
+    private LocalDate checkIn;
+
+    @NotNull
+    private LocalDate checkOut;
+}
@@ -0,0 +1,21 @@
+package java_web.be.dtos.response;
+
+import java_web.be.model.enums.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+public class BookingResponse {
+    private Long bookingId;
+    private Long roomTypeId;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+    private BigDecimal totalPrice;
+    private BookingStatus status;
+    private Instant createdAt;
+}
@@ -0,0 +1,12 @@
+package java_web.be.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CitySuggestion {
+    private String city;
+    private String country;
+    private Integer hotelCount;
+}
@@ -0,0 +1,11 @@
+package java_web.be.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class FacilityResponse {
+    private Long facilityId;
+    private String name;
+}
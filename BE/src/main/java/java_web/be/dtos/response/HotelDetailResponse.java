@@ -0,0 +1,23 @@
+package java_web.be.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class HotelDetailResponse {
+    private Long hotelId;
+    private String hotelName;
+    private String address;
+    private String city;
+    private String country;
+    private String description;
+    private BigDecimal averageRating;
+    private int reviewCount;
+    private List<HotelImageResponse> images;
+    private List<FacilityResponse> facilities;
+    private List<RoomTypeResponse> roomTypes;
+}
@@ -0,0 +1,18 @@
+package java_web.be.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+public class HotelSearchItem {
+    private Long hotelId;
+    private String hotelName;
+    private String city;
+    private String country;
+    private BigDecimal minPrice;
+    private BigDecimal averageRating;
+    private Integer reviewCount;
+}
@@ -0,0 +1,13 @@
+package java_web.be.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class HotelSuggestion {
+    private Long hotelId;
+    private String hotelName;
+    private String city;
+    private String country;
+}
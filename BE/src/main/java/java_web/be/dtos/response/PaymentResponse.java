@@ -0,0 +1,21 @@
+package java_web.be.dtos.response;
+
+import java_web.be.model.enums.PaymentMethod;
+import java_web.be.model.enums.PaymentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+public class PaymentResponse {
+    private Long paymentId;
+    private Long bookingId;
+    private BigDecimal amount;
+    private PaymentMethod method;
+    private PaymentStatus status;
+    private Instant paidAt;
+    private Instant createdAt;
+}
@@ -0,0 +1,18 @@
+package java_web.be.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class QuoteResponse {
+    private Long roomTypeId;
+    // false when a night is sold out or not on sale yet; prices are then null
+    private boolean available;
+    private List<BigDecimal> nightlyPrices;
+    private BigDecimal discount;
+    private BigDecimal totalPrice;
+}
@@ -0,0 +1,17 @@
+package java_web.be.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+public class ReviewResponse {
+    private Long reviewId;
+    private Long hotelId;
+    private Long bookingId;
+    private Integer rating;
+    private String comment;
+    private Instant createdAt;
+}
@@ -0,0 +1,17 @@
+package java_web.be.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+public class RoomTypeResponse {
+    private Long roomTypeId;
+    private String typeName;
+    private BigDecimal basePrice;
+    private Integer capacity;
+    private Integer totalRooms;
+    private String description;
+}
@@ -0,0 +1,13 @@
+package java_web.be.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class SuggestResponse {
+    private List<CitySuggestion> cities;
+    private List<HotelSuggestion> hotels;
+}
@@ -0,0 +1,11 @@
+package java_web.be.exceptions;
+
+/**
+ * Thrown when a bounded worker pool is saturated and the request is shed instead of queued.
+ * Mapped to HTTP 429 by {@link GlobalExceptionHandler}.
+ */
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
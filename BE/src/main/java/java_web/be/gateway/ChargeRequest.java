@@ -0,0 +1,13 @@
+package java_web.be.gateway;
+
+import java_web.be.model.enums.PaymentMethod;
+
+import java.math.BigDecimal;
+
+/**
+ * Outbox payload of a PAYMENT_CHARGE event. The idempotency key is fixed per payment, so a
+ * redelivered event never charges twice.
+ */
+public record ChargeRequest(String idempotencyKey, Long paymentId, Long bookingId,
+                            BigDecimal amount, PaymentMethod method) {
+}
@@ -0,0 +1,16 @@
+package java_web.be.gateway;
+
+/**
+ * Final answer of the gateway for a charge. Transient failures are thrown instead, so the
+ * dispatcher retries them.
+ */
+public record ChargeResult(boolean approved, String providerRef, String reason) {
+
+    public static ChargeResult approved(String providerRef) {
+        return new ChargeResult(true, providerRef, null);
+    }
+
+    public static ChargeResult declined(String reason) {
+        return new ChargeResult(false, null, reason);
+    }
+}
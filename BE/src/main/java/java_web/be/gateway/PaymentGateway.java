@@ -0,0 +1,20 @@
+package java_web.be.gateway;
+
+import java.util.Optional;
+
+/**
+ * Adapter to the external payment provider. Called only by the outbox dispatcher, never
+ * inside a DB transaction or on a request thread.
+ */
+public interface PaymentGateway {
+    ChargeResult charge(ChargeRequest request);
+
+    /**
+     * Returns what the provider recorded for a charge idempotency key, or empty if it never
+     * received that charge; throws if the provider could not be asked.
+     */
+    Optional<ChargeResult> findCharge(String idempotencyKey);
+
+    /** Returns the provider's refund reference; throws if the refund could not be made. */
+    String refund(RefundRequest request);
+}
@@ -0,0 +1,7 @@
+package java_web.be.gateway;
+
+import java.math.BigDecimal;
+
+/** Outbox payload of a PAYMENT_REFUND event: gives back a settled charge in full. */
+public record RefundRequest(String idempotencyKey, Long paymentId, String providerRef, BigDecimal amount) {
+}
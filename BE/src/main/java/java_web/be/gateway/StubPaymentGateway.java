@@ -0,0 +1,62 @@
+package java_web.be.gateway;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-process gateway for local runs and tests. Approves charges after a configurable delay,
+ * declining a configurable fraction, and answers repeated idempotency keys with the first result.
+ */
+@Component
+@ConditionalOnProperty(name = "app.payment.gateway", havingValue = "stub", matchIfMissing = true)
+public class StubPaymentGateway implements PaymentGateway {
+
+    private final Map<String, ChargeResult> results = new ConcurrentHashMap<>();
+
+    @Value("${app.payment.stub.latency-ms:50}")
+    private long latencyMs;
+
+    @Value("${app.payment.stub.decline-rate:0.0}")
+    private double declineRate;
+
+    private final Map<String, String> refunds = new ConcurrentHashMap<>();
+
+    @Override
+    public ChargeResult charge(ChargeRequest request) {
+        pause();
+        return results.computeIfAbsent(request.idempotencyKey(), key ->
+                ThreadLocalRandom.current().nextDouble() < declineRate
+                        ? ChargeResult.declined("Declined by stub")
+                        : ChargeResult.approved("stub-" + UUID.randomUUID()));
+    }
+
+    @Override
+    public Optional<ChargeResult> findCharge(String idempotencyKey) {
+        pause();
+        return Optional.ofNullable(results.get(idempotencyKey));
+    }
+
+    @Override
+    public String refund(RefundRequest request) {
+        pause();
+        return refunds.computeIfAbsent(request.idempotencyKey(), key -> "stub-refund-" + UUID.randomUUID());
+    }
+
+    private void pause() {
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package java_web.be.jobs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps a rolling window of RoomAvailability rows (one per room type per night) ahead of
+ * today. Each room type is extended from its last materialized date, so the nightly run only
+ * inserts the new day(s); new room types get the full window. Rows go through plain JDBC
+ * batches and the insert is a no-op on the (room_type_id, date) unique key, so reruns and
+ * overlapping runs are harmless.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailabilityCalendarJob {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO room_availability (room_type_id, date, available_rooms) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE room_type_id = room_type_id";
+
+    // last materialized night per room type comes from the (room_type_id, date) index
+    private static final String ROOM_TYPES_SQL =
+            "SELECT rt.room_type_id, rt.total_rooms, " +
+            "       (SELECT MAX(ra.date) FROM room_availability ra WHERE ra.room_type_id = rt.room_type_id) AS last_date " +
+            "FROM room_types rt WHERE rt.room_type_id > ? ORDER BY rt.room_type_id LIMIT ?";
+
+    private final JdbcTemplate jdbc;
+
+    @Value("${app.availability.window-days:365}")
+    private int windowDays;
+
+    @Value("${app.availability.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.availability.room-type-page-size:500}")
+    private int roomTypePageSize;
+
+    @Scheduled(cron = "${app.availability.calendar-cron:0 30 2 * * *}")
+    public void extendCalendar() {
+        long started = System.currentTimeMillis();
+        long inserted = materialize(LocalDate.now());
+        log.info("Availability calendar extended: {} rows in {} ms", inserted, System.currentTimeMillis() - started);
+    }
+
+    public long materialize(LocalDate today) {
+        LocalDate horizon = today.plusDays(windowDays);
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        long written = 0;
+        long afterId = 0L;
+
+        List<RoomTypeCursor> page;
+        do {
+            page = jdbc.query(ROOM_TYPES_SQL,
+                    (rs, i) -> new RoomTypeCursor(rs.getLong(1), rs.getInt(2), rs.getObject(3, LocalDate.class)),
+                    afterId, roomTypePageSize);
+
+            for (RoomTypeCursor rt : page) {
+                LocalDate from = rt.lastDate() == null || rt.lastDate().isBefore(today)
+                        ? today : rt.lastDate().plusDays(1);
+                for (LocalDate d = from; d.isBefore(horizon); d = d.plusDays(1)) {
+                    batch.add(new Object[]{rt.roomTypeId(), Date.valueOf(d), rt.totalRooms()});
+                    if (batch.size() == batchSize) {
+                        written += flush(batch);
+                    }
+                }
+                afterId = rt.roomTypeId();
+            }
+        } while (page.size() == roomTypePageSize);
+
+        written += flush(batch);
+        return written;
+    }
+
+    private int flush(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        jdbc.batchUpdate(INSERT_SQL, batch);
+        int n = batch.size();
+        batch.clear();
+        return n;
+    }
+
+    private record RoomTypeCursor(long roomTypeId, int totalRooms, LocalDate lastDate) {
+    }
+}
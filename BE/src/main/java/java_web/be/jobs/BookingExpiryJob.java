@@ -0,0 +1,110 @@
+package java_web.be.jobs;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Cancels PENDING bookings whose hold has run out and gives their nights back to
+ * room_availability. Each chunk is one transaction: lock a page of expired bookings
+ * (SKIP LOCKED, so payment completions and a second instance are never blocked), cancel them,
+ * then release inventory with one batched UPDATE per distinct (room type, stay). Bookings with
+ * a charge still in flight are left to the payment pipeline.
+ */
+@Slf4j
+@Component
+public class BookingExpiryJob {
+
+    // idx_booking_status_created drives the scan
+    private static final String EXPIRED_SQL =
+            "SELECT b.booking_id, b.room_type_id, b.check_in, b.check_out FROM bookings b " +
+            "WHERE b.status = 'PENDING' AND b.created_at < ? " +
+            "AND NOT EXISTS (SELECT 1 FROM payments p WHERE p.booking_id = b.booking_id AND p.status = 'PENDING') " +
+            "ORDER BY b.created_at LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String CANCEL_SQL =
+            "UPDATE bookings SET status = 'CANCELLED', updated_at = ? WHERE booking_id = ? AND status = 'PENDING'";
+
+    private static final String RELEASE_SQL =
+            "UPDATE room_availability SET available_rooms = available_rooms + ? " +
+            "WHERE room_type_id = ? AND date >= ? AND date < ?";
+
+    private static final Comparator<Stay> LOCK_ORDER = Comparator.comparingLong(Stay::roomTypeId)
+            .thenComparing(Stay::checkIn).thenComparing(Stay::checkOut);
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate txTemplate;
+    private final Counter expired;
+
+    @Value("${app.booking.hold-minutes:15}")
+    private long holdMinutes;
+
+    @Value("${app.booking.expiry.batch-size:200}")
+    private int batchSize;
+
+    public BookingExpiryJob(JdbcTemplate jdbc, TransactionTemplate txTemplate, MeterRegistry meterRegistry) {
+        this.jdbc = jdbc;
+        this.txTemplate = txTemplate;
+        this.expired = Counter.builder("bookings.expired").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.booking.expiry.poll-ms:60000}")
+    public void expireUnpaid() {
+        Instant cutoff = Instant.now().minus(Duration.ofMinutes(holdMinutes));
+        long total = 0;
+        int cancelled;
+        do {
+            cancelled = txTemplate.execute(status -> expireChunk(cutoff));
+            expired.increment(cancelled);
+            total += cancelled;
+        } while (cancelled == batchSize);
+        if (total > 0) {
+            log.info("Expired {} unpaid bookings older than {}", total, cutoff);
+        }
+    }
+
+    private int expireChunk(Instant cutoff) {
+        List<ExpiredBooking> rows = jdbc.query(EXPIRED_SQL,
+                (rs, i) -> new ExpiredBooking(rs.getLong(1), new Stay(rs.getLong(2),
+                        rs.getObject(3, LocalDate.class), rs.getObject(4, LocalDate.class))),
+                Timestamp.from(cutoff), batchSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> cancels = new ArrayList<>(rows.size());
+        // bookings for the same room type and dates collapse into one +n update; sorted so
+        // concurrent reservations lock availability rows in the same order
+        Map<Stay, Integer> released = new TreeMap<>(LOCK_ORDER);
+        for (ExpiredBooking row : rows) {
+            cancels.add(new Object[]{now, row.bookingId()});
+            released.merge(row.stay(), 1, Integer::sum);
+        }
+        jdbc.batchUpdate(CANCEL_SQL, cancels);
+
+        List<Object[]> releases = new ArrayList<>(released.size());
+        released.forEach((stay, rooms) -> releases.add(new Object[]{
+                rooms, stay.roomTypeId(), Date.valueOf(stay.checkIn()), Date.valueOf(stay.checkOut())}));
+        jdbc.batchUpdate(RELEASE_SQL, releases);
+        return rows.size();
+    }
+
+    private record Stay(long roomTypeId, LocalDate checkIn, LocalDate checkOut) {
+    }
+
+    private record ExpiredBooking(long bookingId, Stay stay) {
+    }
+}
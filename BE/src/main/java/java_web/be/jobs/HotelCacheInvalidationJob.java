@@ -0,0 +1,70 @@
+package java_web.be.jobs;
+
+import java_web.be.cache.HotelCache;
+import java_web.be.cache.HotelSuggestIndex;
+import java_web.be.model.Hotel;
+import java_web.be.model.RoomType;
+import java_web.be.repositories.HotelRepository;
+import java_web.be.repositories.RoomTypeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Polls hotels/room_types by updated_at and evicts changed rows from HotelCache and from
+ * Hibernate's second-level and query caches (and refreshes them in HotelSuggestIndex),
+ * covering writes made on other nodes or outside JPA that the entity listener and Hibernate's
+ * own invalidation never see.
+ */
+@Component
+@RequiredArgsConstructor
+public class HotelCacheInvalidationJob {
+
+    private final HotelRepository hotelRepo;
+    private final RoomTypeRepository roomTypeRepo;
+    private final HotelCache hotelCache;
+    private final HotelSuggestIndex suggestIndex;
+    private final EntityManagerFactory emf;
+
+    private Instant lastPoll = Instant.now();
+
+    @Scheduled(fixedDelayString = "${app.cache.invalidation-poll-ms:15000}")
+    public void pollChanges() {
+        Instant startedAt = Instant.now();
+        // overlap the previous window a little to tolerate clock skew and late commits
+        Instant since = lastPoll.minusSeconds(5);
+        Cache l2 = emf.unwrap(SessionFactory.class).getCache();
+        List<Long> hotelIds = hotelRepo.findIdsUpdatedSince(since);
+        hotelIds.forEach(id -> {
+            hotelCache.invalidateHotel(id);
+            evictHotelCollections(l2, id);
+        });
+        if (!hotelIds.isEmpty()) {
+            hotelRepo.findSuggestRowsByIds(hotelIds).forEach(h ->
+                    suggestIndex.upsert(h.getHotelId(), h.getHotelName(), h.getCity(), h.getCountry()));
+        }
+        List<RoomTypeRepository.RoomTypeRef> roomTypes = roomTypeRepo.findRefsUpdatedSince(since);
+        roomTypes.forEach(rt -> {
+            hotelCache.invalidateRoomType(rt.getRoomTypeId(), rt.getHotelId());
+            l2.evictEntityData(RoomType.class, rt.getRoomTypeId());
+            l2.evictCollectionData(Hotel.class.getName() + ".roomTypes", rt.getHotelId());
+        });
+        // cached query results are only invalidated by writes this node's Hibernate made
+        if (!hotelIds.isEmpty() || !roomTypes.isEmpty()) {
+            l2.evictDefaultQueryRegion();
+        }
+        lastPoll = startedAt;
+    }
+
+    private static void evictHotelCollections(Cache l2, Long hotelId) {
+        l2.evictCollectionData(Hotel.class.getName() + ".images", hotelId);
+        l2.evictCollectionData(Hotel.class.getName() + ".roomTypes", hotelId);
+        l2.evictCollectionData(Hotel.class.getName() + ".facilities", hotelId);
+    }
+}
@@ -0,0 +1,40 @@
+package java_web.be.jobs;
+
+import java_web.be.cache.HotelSuggestIndex;
+import java_web.be.repositories.HotelRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills HotelSuggestIndex at startup and rebuilds it nightly, which also drops hotels deleted
+ * on other nodes (HotelCacheInvalidationJob only sees updates). The load runs on the index's
+ * own rebuild thread; neither this job nor hotel writes wait for it.
+ */
+@Component
+@RequiredArgsConstructor
+public class HotelSuggestIndexJob {
+
+    private final HotelRepository hotelRepo;
+    private final HotelSuggestIndex suggestIndex;
+
+    @Value("${app.search.suggest.load-page-size:5000}")
+    private int loadPageSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${app.search.suggest.rebuild-cron:0 15 3 * * *}")
+    public void rebuild() {
+        suggestIndex.rebuildAsync(afterId -> hotelRepo.findSuggestRows(afterId, PageRequest.ofSize(loadPageSize))
+                .stream()
+                .map(r -> new HotelSuggestIndex.HotelEntry(r.getHotelId(), r.getHotelName(), r.getCity(), r.getCountry()))
+                .toList());
+    }
+}
@@ -0,0 +1,247 @@
+package java_web.be.jobs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java_web.be.gateway.ChargeRequest;
+import java_web.be.gateway.ChargeResult;
+import java_web.be.gateway.PaymentGateway;
+import java_web.be.gateway.RefundRequest;
+import java_web.be.model.OutboxEvent;
+import java_web.be.model.enums.OutboxStatus;
+import java_web.be.repositories.OutboxEventRepository;
+import java_web.be.services.PaymentService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delivers outbox events to the payment gateway. A batch is claimed in one short transaction
+ * (SELECT ... FOR UPDATE SKIP LOCKED, then a lease on next_attempt_at), the gateway is called
+ * on a bounded worker pool with no transaction open, and each result is written back in its
+ * own transaction. Failed calls back off exponentially until max-attempts. A charge is then
+ * looked up at the provider and only failed (cancelling the booking) if the provider never
+ * took it; a refund is left DEAD for finance.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcherJob {
+
+    private final OutboxEventRepository outboxRepo;
+    private final PaymentService paymentService;
+    private final PaymentGateway gateway;
+    private final TransactionTemplate txTemplate;
+    private final ObjectMapper objectMapper;
+    private final Timer chargeTimer;
+    private final Timer refundTimer;
+    private final Counter retried;
+    private final Counter abandoned;
+
+    @Value("${app.payment.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.payment.outbox.concurrency:8}")
+    private int concurrency;
+
+    @Value("${app.payment.outbox.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${app.payment.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.payment.outbox.backoff-ms:2000}")
+    private long backoffMs;
+
+    private ExecutorService workers;
+
+    public OutboxDispatcherJob(OutboxEventRepository outboxRepo, PaymentService paymentService,
+                               PaymentGateway gateway, TransactionTemplate txTemplate,
+                               ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.outboxRepo = outboxRepo;
+        this.paymentService = paymentService;
+        this.gateway = gateway;
+        this.txTemplate = txTemplate;
+        this.objectMapper = objectMapper;
+        this.chargeTimer = Timer.builder("payments.gateway").tag("op", "charge").register(meterRegistry);
+        this.refundTimer = Timer.builder("payments.gateway").tag("op", "refund").register(meterRegistry);
+        this.retried = Counter.builder("payments.outbox.retried").register(meterRegistry);
+        this.abandoned = Counter.builder("payments.outbox.abandoned").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger seq = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(concurrency, r -> {
+            Thread t = new Thread(r, "outbox-dispatcher-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    @Scheduled(fixedDelayString = "${app.payment.outbox.poll-ms:1000}")
+    public void dispatch() {
+        List<OutboxEvent> batch;
+        do {
+            batch = claim();
+            CompletableFuture.allOf(batch.stream()
+                    .map(e -> CompletableFuture.runAsync(() -> safeDeliver(e), workers))
+                    .toArray(CompletableFuture[]::new)).join();
+        } while (batch.size() == batchSize);
+    }
+
+    private List<OutboxEvent> claim() {
+        Instant now = Instant.now();
+        return txTemplate.execute(status -> {
+            List<Long> ids = outboxRepo.lockDueIds(now, batchSize);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            outboxRepo.lease(ids, now.plusSeconds(leaseSeconds));
+            return outboxRepo.findAllById(ids);
+        });
+    }
+
+    // a DB error while recording the outcome leaves the lease in place; the event is redelivered
+    private void safeDeliver(OutboxEvent event) {
+        try {
+            deliver(event);
+        } catch (RuntimeException ex) {
+            log.error("Outbox event {} not recorded, will be redelivered", event.getId(), ex);
+        }
+    }
+
+    private void deliver(OutboxEvent event) {
+        switch (event.getEventType()) {
+            case PAYMENT_CHARGE -> deliverCharge(event);
+            case PAYMENT_REFUND -> deliverRefund(event);
+        }
+    }
+
+    private void deliverCharge(OutboxEvent event) {
+        ChargeRequest request = read(event, ChargeRequest.class);
+        if (request == null) {
+            return;
+        }
+        ChargeResult result;
+        try {
+            result = chargeTimer.recordCallable(() -> gateway.charge(request));
+        } catch (Exception ex) {
+            if (retryLater(event, ex)) {
+                return;
+            }
+            result = lookupCharge(event, request, ex);
+            if (result == null) {
+                return;
+            }
+        }
+        // The gateway has answered, so a failure from here on is ours. It must not be retried
+        // or abandoned as a gateway error: the lease is left as it is, and after it expires the
+        // event is redelivered and the idempotency key returns this same result.
+        try {
+            paymentService.applyChargeResult(event.getId(), request, result);
+        } catch (RuntimeException ex) {
+            log.error("Charge of payment {} answered ({}) but not recorded, will be redelivered",
+                    request.paymentId(), result.approved() ? "approved" : "declined", ex);
+        }
+    }
+
+    // A timeout or a lost response does not mean the customer was not charged, so ask the
+    // provider what it did with this idempotency key before failing the payment.
+    private ChargeResult lookupCharge(OutboxEvent event, ChargeRequest request, Exception cause) {
+        Optional<ChargeResult> found;
+        try {
+            found = gateway.findCharge(request.idempotencyKey());
+        } catch (Exception ex) {
+            // still unknown: keep asking; the booking hold expires on its own meanwhile
+            log.error("Charge of payment {} unknown after {} attempts, provider lookup failed",
+                    request.paymentId(), event.getAttempts(), ex);
+            reschedule(event, ex);
+            return null;
+        }
+        if (found.isPresent()) {
+            log.warn("Charge of payment {} found at the provider after {} failed attempts",
+                    request.paymentId(), event.getAttempts());
+            return found.get();
+        }
+        log.warn("Giving up on payment {} after {} attempts", request.paymentId(), event.getAttempts(), cause);
+        paymentService.abandonCharge(event.getId(), request, truncate(cause));
+        return null;
+    }
+
+    private void deliverRefund(OutboxEvent event) {
+        RefundRequest request = read(event, RefundRequest.class);
+        if (request == null) {
+            return;
+        }
+        String refundRef;
+        try {
+            refundRef = refundTimer.recordCallable(() -> gateway.refund(request));
+        } catch (Exception ex) {
+            if (retryLater(event, ex)) {
+                return;
+            }
+            // money is still with us; the DEAD row is the hand-off to finance
+            log.error("Refund of payment {} failed after {} attempts", request.paymentId(), event.getAttempts(), ex);
+            txTemplate.executeWithoutResult(status ->
+                    outboxRepo.complete(event.getId(), OutboxStatus.DEAD, Instant.now(), truncate(ex)));
+            return;
+        }
+        // as for charges: the refund went through, so leave the lease and let it be redelivered
+        try {
+            paymentService.applyRefundResult(event.getId(), request, refundRef);
+        } catch (RuntimeException ex) {
+            log.error("Refund {} of payment {} not recorded, will be redelivered", refundRef, request.paymentId(), ex);
+        }
+    }
+
+    private <T> T read(OutboxEvent event, Class<T> type) {
+        try {
+            return objectMapper.readValue(event.getPayload(), type);
+        } catch (Exception ex) {
+            log.error("Unreadable outbox event {}", event.getId(), ex);
+            txTemplate.executeWithoutResult(status ->
+                    outboxRepo.complete(event.getId(), OutboxStatus.DEAD, Instant.now(), truncate(ex)));
+            return null;
+        }
+    }
+
+    // attempts was already incremented by the lease
+    private boolean retryLater(OutboxEvent event, Exception ex) {
+        if (event.getAttempts() >= maxAttempts) {
+            abandoned.increment();
+            return false;
+        }
+        retried.increment();
+        reschedule(event, ex);
+        return true;
+    }
+
+    private void reschedule(OutboxEvent event, Exception ex) {
+        Instant next = Instant.now().plus(Duration.ofMillis(backoffMs << Math.min(event.getAttempts() - 1, 10)));
+        txTemplate.executeWithoutResult(status -> outboxRepo.reschedule(event.getId(), next, truncate(ex)));
+    }
+
+    private static String truncate(Exception ex) {
+        String msg = String.valueOf(ex.getMessage());
+        return msg.length() > 500 ? msg.substring(0, 500) : msg;
+    }
+}
@@ -0,0 +1,78 @@
+package java_web.be.jobs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Recomputes hotel_rating_summaries from the reviews table, one hotel-id range per
+ * transaction. Repairs any drift from the incremental path (manual deletes, legacy rows)
+ * without ever running one GROUP BY over the whole reviews table.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RatingSummaryReconciliationJob {
+
+    private static final String HOTEL_IDS_SQL =
+            "SELECT hotel_id FROM hotels WHERE hotel_id > ? ORDER BY hotel_id LIMIT ?";
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO hotel_rating_summaries
+                (hotel_id, review_count, rating_sum, star1, star2, star3, star4, star5, average_rating)
+            SELECT * FROM (
+                SELECT r.hotel_id, COUNT(*) AS cnt, SUM(r.rating) AS total,
+                       SUM(r.rating = 1) AS s1, SUM(r.rating = 2) AS s2, SUM(r.rating = 3) AS s3,
+                       SUM(r.rating = 4) AS s4, SUM(r.rating = 5) AS s5, AVG(r.rating) AS avg_rating
+                FROM reviews r
+                WHERE r.hotel_id > ? AND r.hotel_id <= ? AND r.rating IS NOT NULL
+                GROUP BY r.hotel_id
+            ) AS agg
+            ON DUPLICATE KEY UPDATE
+                review_count = agg.cnt, rating_sum = agg.total,
+                star1 = agg.s1, star2 = agg.s2, star3 = agg.s3, star4 = agg.s4, star5 = agg.s5,
+                average_rating = agg.avg_rating
+            """;
+
+    private static final String CLEAR_EMPTY_SQL = """
+            UPDATE hotel_rating_summaries s
+            SET review_count = 0, rating_sum = 0, star1 = 0, star2 = 0, star3 = 0, star4 = 0, star5 = 0,
+                average_rating = 0
+            WHERE s.hotel_id > ? AND s.hotel_id <= ?
+              AND NOT EXISTS (SELECT 1 FROM reviews r WHERE r.hotel_id = s.hotel_id AND r.rating IS NOT NULL)
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate txTemplate;
+
+    @Value("${app.rating.reconcile-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(cron = "${app.rating.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        long afterId = 0L;
+        int hotels = 0;
+        List<Long> ids;
+        do {
+            ids = jdbc.queryForList(HOTEL_IDS_SQL, Long.class, afterId, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            long from = afterId;
+            long to = ids.get(ids.size() - 1);
+            txTemplate.executeWithoutResult(status -> {
+                jdbc.update(UPSERT_SQL, from, to);
+                jdbc.update(CLEAR_EMPTY_SQL, from, to);
+            });
+            hotels += ids.size();
+            afterId = to;
+        } while (ids.size() == batchSize);
+        log.info("Rating summaries reconciled for {} hotels", hotels);
+    }
+}
@@ -0,0 +1,61 @@
+package java_web.be.jobs;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java_web.be.repositories.TokenRepository;
+import java_web.be.security.JwtTokenProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Deletes refresh-token rows whose JWT has expired, one small transaction per batch so the
+ * purge never holds long locks on the tokens table. Revoked tokens that have not expired
+ * yet are kept: they are what the revocation index is built from.
+ */
+@Slf4j
+@Component
+public class TokenPurgeJob {
+
+    private final TokenRepository tokenRepo;
+    private final JwtTokenProvider jwtProvider;
+    private final TransactionTemplate txTemplate;
+    private final Counter purged;
+
+    @Value("${app.auth.token-purge.batch-size:1000}")
+    private int batchSize;
+
+    public TokenPurgeJob(TokenRepository tokenRepo, JwtTokenProvider jwtProvider,
+                         TransactionTemplate txTemplate, MeterRegistry meterRegistry) {
+        this.tokenRepo = tokenRepo;
+        this.jwtProvider = jwtProvider;
+        this.txTemplate = txTemplate;
+        this.purged = Counter.builder("auth.tokens.purged").register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.auth.token-purge.cron:0 */15 * * * *}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime legacyCutoff = now.minus(jwtProvider.getRefreshTokenExpMs(), ChronoUnit.MILLIS);
+        long total = 0;
+        int deleted;
+        do {
+            deleted = txTemplate.execute(status -> {
+                List<Long> ids = tokenRepo.findPurgeableIds(now, legacyCutoff, PageRequest.ofSize(batchSize));
+                return ids.isEmpty() ? 0 : tokenRepo.deleteByIdIn(ids);
+            });
+            purged.increment(deleted);
+            total += deleted;
+        } while (deleted == batchSize);
+        if (total > 0) {
+            log.info("Purged {} expired refresh tokens", total);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package java_web.be.metrics;
+
+/**
+ * JDBC work done by Hibernate on the current thread since the last {@link #reset()}.
+ * Filled by {@link SqlStatementListener}, read and reset per request by {@link RequestMetricsFilter}.
+ */
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = ThreadLocal.withInitial(RequestSqlStats::new);
+
+    private int statements;
+    private long jdbcNanos;
+
+    private RequestSqlStats() {
+    }
+
+    public static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    public static void reset() {
+        CURRENT.remove();
+    }
+
+    void addStatement(long nanos) {
+        statements++;
+        jdbcNanos += nanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+}
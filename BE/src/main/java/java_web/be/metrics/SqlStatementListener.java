@@ -0,0 +1,34 @@
+package java_web.be.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Registered on every Hibernate session through hibernate.session.events.auto. Counts each
+ * executed statement and batch and the time spent in the driver, into the thread's
+ * {@link RequestSqlStats}. Sessions are single-threaded, so plain fields are enough.
+ */
+public class SqlStatementListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestSqlStats.current().addStatement(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestSqlStats.current().addStatement(System.nanoTime() - batchStart);
+    }
+}
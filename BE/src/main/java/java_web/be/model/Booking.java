@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java_web.be.model.enums.BookingStatus;
+import java_web.be.model.id.TimeOrderedId;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -14,14 +15,19 @@ import java.time.LocalDate;
 
 @Entity
 @Table(name = "bookings", indexes = {
-        @Index(columnList = "user_id", name = "idx_booking_user"),
-        @Index(columnList = "room_type_id", name = "idx_booking_roomtype")
+        // keyset order of the booking history listings
+        @Index(columnList = "user_id, created_at, booking_id", name = "idx_booking_user_created"),
+        @Index(columnList = "room_type_id, created_at, booking_id", name = "idx_booking_roomtype_created"),
+        // time-range scans of the finance export
+        @Index(columnList = "created_at", name = "idx_booking_created"),
+        // expiry sweep of unpaid PENDING bookings
+        @Index(columnList = "status, created_at", name = "idx_booking_status_created")
 })
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Booking {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long bookingId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -2,15 +2,19 @@ package java_web.be.model;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import java_web.be.model.id.TimeOrderedId;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "facilities", uniqueConstraints = @UniqueConstraint(columnNames = "name"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference-facility")
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Facility {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long facilityId;
 
     @NotBlank
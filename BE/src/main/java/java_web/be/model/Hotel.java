@@ -2,9 +2,13 @@ package java_web.be.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import java_web.be.cache.HotelCacheInvalidationListener;
 import jakarta.validation.constraints.Size;
 import jakarta.validation.constraints.NotBlank;
+import java_web.be.model.id.TimeOrderedId;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -13,12 +17,16 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "hotels")
+@Table(name = "hotels", indexes = {
+        @Index(columnList = "city, country", name = "idx_hotel_city_country"),
+        @Index(columnList = "updated_at", name = "idx_hotel_updated")
+})
+@EntityListeners(HotelCacheInvalidationListener.class)
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Hotel {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long hotelId;
 
     @NotBlank @Size(max = 255)
@@ -48,9 +56,11 @@ public class Hotel {
     private User owner;
 
     @OneToMany(mappedBy = "hotel", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference-hotel_images")
     private Set<HotelImage> images = new HashSet<>();
 
     @OneToMany(mappedBy = "hotel", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference-hotel_room_types")
     private Set<RoomType> roomTypes = new HashSet<>();
 
     @ManyToMany(fetch = FetchType.LAZY)
@@ -58,6 +68,7 @@ public class Hotel {
             joinColumns = @JoinColumn(name = "hotel_id"),
             inverseJoinColumns = @JoinColumn(name = "facility_id"),
             uniqueConstraints = @UniqueConstraint(columnNames = {"hotel_id", "facility_id"}))
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference-hotel_facilities")
     private Set<Facility> facilities = new HashSet<>();
 
     @OneToMany(mappedBy = "hotel", fetch = FetchType.LAZY)
@@ -3,15 +3,19 @@ package java_web.be.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import java_web.be.model.id.TimeOrderedId;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "hotel_images")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference-hotel_image")
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class HotelImage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long imageId;
 
     @NotBlank
@@ -0,0 +1,34 @@
+package java_web.be.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Denormalized rating aggregate per hotel, kept in step with the reviews table by
+ * ReviewServiceImpl (incrementally) and RatingSummaryReconciliationJob (in bulk).
+ * Lives in its own table so review traffic never touches hotels.updated_at.
+ */
+@Entity
+@Table(name = "hotel_rating_summaries", indexes = {
+        @Index(columnList = "average_rating", name = "idx_rating_summary_avg")
+})
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class HotelRatingSummary {
+
+    @Id
+    private Long hotelId;
+
+    private int reviewCount;
+    private long ratingSum;
+
+    private int star1;
+    private int star2;
+    private int star3;
+    private int star4;
+    private int star5;
+
+    @Column(precision = 3, scale = 2)
+    private BigDecimal averageRating;
+}
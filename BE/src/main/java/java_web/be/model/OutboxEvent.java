@@ -0,0 +1,53 @@
+package java_web.be.model;
+
+import jakarta.persistence.*;
+import java_web.be.model.enums.OutboxEventType;
+import java_web.be.model.enums.OutboxStatus;
+import java_web.be.model.id.TimeOrderedId;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "outbox_events", indexes = {
+        // dispatcher claim: status = PENDING and due, oldest first
+        @Index(columnList = "status, next_attempt_at, id", name = "idx_outbox_due")
+})
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class OutboxEvent {
+
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private OutboxEventType eventType;
+
+    // id of the row the event is about (paymentId for payment events)
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private OutboxStatus status;
+
+    private int attempts;
+
+    // when PENDING: earliest time the dispatcher may (re)claim the event
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(length = 512)
+    private String lastError;
+
+    @CreationTimestamp
+    private Instant createdAt;
+
+    private Instant sentAt;
+}
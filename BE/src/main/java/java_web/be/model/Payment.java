@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java_web.be.model.enums.PaymentMethod;
 import java_web.be.model.enums.PaymentStatus;
+import java_web.be.model.id.TimeOrderedId;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 
@@ -17,7 +18,7 @@ import java.time.Instant;
 public class Payment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long paymentId;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -36,6 +37,10 @@ public class Payment {
 
     private Instant paidAt;
 
+    // gateway transaction id, set once the charge is settled
+    @Column(length = 64)
+    private String providerRef;
+
     @CreationTimestamp
     private Instant createdAt;
 }
@@ -3,6 +3,7 @@ package java_web.be.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import java_web.be.model.id.TimeOrderedId;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 
@@ -12,13 +13,13 @@ import java.util.Set;
 
 @Entity
 @Table(name = "reviews", indexes = {
-        @Index(columnList = "hotel_id", name = "idx_review_hotel")
+        @Index(columnList = "hotel_id, created_at", name = "idx_review_hotel_created")
 })
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Review {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long reviewId;
 
     @OneToOne(fetch = FetchType.LAZY)
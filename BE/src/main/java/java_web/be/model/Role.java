@@ -1,15 +1,19 @@
 package java_web.be.model;
 
 import jakarta.persistence.*;
+import java_web.be.model.id.TimeOrderedId;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "roles", uniqueConstraints = @UniqueConstraint(columnNames = "role_name"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference-role")
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Role {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long roleId;
 
     @Column(name = "role_name", length = 100, nullable = false, unique = true)
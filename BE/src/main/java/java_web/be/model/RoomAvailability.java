@@ -9,10 +9,15 @@ import java.time.LocalDate;
 
 @Entity
 @Table(name = "room_availability",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"room_type_id", "date"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"room_type_id", "date"}),
+        indexes = {
+                // covering index for date-range scans: MIN(available_rooms) never touches the rows
+                @Index(columnList = "room_type_id, date, available_rooms", name = "idx_availability_roomtype_date")
+        })
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class RoomAvailability {
 
+    // stays IDENTITY: rows are bulk-inserted by AvailabilityCalendarJob over plain JDBC
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long availabilityId;
@@ -2,8 +2,12 @@ package java_web.be.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import java_web.be.cache.HotelCacheInvalidationListener;
 import jakarta.validation.constraints.*;
+import java_web.be.model.id.TimeOrderedId;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -14,13 +18,16 @@ import java.util.Set;
 
 @Entity
 @Table(name = "room_types", indexes = {
-        @Index(columnList = "hotel_id", name = "idx_roomtype_hotel")
+        @Index(columnList = "hotel_id", name = "idx_roomtype_hotel"),
+        @Index(columnList = "updated_at", name = "idx_roomtype_updated")
 })
+@EntityListeners(HotelCacheInvalidationListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference-room_type")
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class RoomType {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long roomTypeId;
 
     @ManyToOne(fetch = FetchType.LAZY)
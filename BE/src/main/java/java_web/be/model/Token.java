@@ -2,20 +2,25 @@ package java_web.be.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import java_web.be.model.id.TimeOrderedId;
 import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tokens")
+@Table(name = "tokens", indexes = {
+        @Index(columnList = "user_id, revoked", name = "idx_token_user_revoked"),
+        @Index(columnList = "expires_at", name = "idx_token_expires")
+})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Token {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 512)
-    private String tokenValue;
+    // SHA-256 hex of the refresh JWT; the raw token is never stored
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
 
     private boolean expired = false;
     private boolean revoked = false;
@@ -26,6 +31,7 @@ public class Token {
     private User user;
 
     private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
     private LocalDateTime revokedAt;
 
     @PrePersist
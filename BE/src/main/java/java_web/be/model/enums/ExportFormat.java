@@ -0,0 +1,5 @@
+package java_web.be.model.enums;
+
+public enum ExportFormat {
+    CSV, NDJSON
+}
@@ -0,0 +1,8 @@
+package java_web.be.pricing;
+
+/**
+ * Result of one stay quote, in minor units (cents). {@code nightlyCents} is before the
+ * length-of-stay discount; {@code totalCents = subtotalCents - discountCents}.
+ */
+public record PriceQuote(long[] nightlyCents, long subtotalCents, long discountCents, long totalCents) {
+}
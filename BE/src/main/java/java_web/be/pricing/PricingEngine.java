@@ -0,0 +1,129 @@
+package java_web.be.pricing;
+
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Computes nightly prices from a room type's base price. The configured rules are compiled
+ * once into flat tables (a multiplier per calendar day for seasons, per weekday for weekends,
+ * sorted thresholds for occupancy and length of stay), so a quote is a few array reads and
+ * multiplications per night with no allocation besides the result.
+ *
+ * Per night: base * season * weekend * occupancy, rounded to the cent. The length-of-stay
+ * discount is then taken off the sum. Where several seasons or tiers match, the highest
+ * applies.
+ */
+@Component
+public class PricingEngine {
+
+    // cumulative days before each month in a leap year, so every MonthDay has a slot
+    private static final int[] MONTH_OFFSET = {0, 0, 31, 60, 91, 121, 152, 182, 213, 244, 274, 305, 335};
+
+    private final double[] seasonByDay = new double[366];
+    private final double[] weekdayMultiplier = new double[8];
+    private final double[] occupancyThresholds;
+    private final double[] occupancyMultipliers;
+    private final int[] losMinNights;
+    private final double[] losDiscounts;
+
+    public PricingEngine(PricingProperties props) {
+        Arrays.fill(seasonByDay, 1.0);
+        for (PricingProperties.Season season : props.getSeasons()) {
+            int from = slot(MonthDay.parse("--" + season.getFrom()));
+            int to = slot(MonthDay.parse("--" + season.getTo()));
+            double m = season.getMultiplier().doubleValue();
+            for (int d = from; ; d = (d + 1) % 366) {
+                seasonByDay[d] = Math.max(seasonByDay[d], m);
+                if (d == to) {
+                    break;
+                }
+            }
+        }
+
+        Arrays.fill(weekdayMultiplier, 1.0);
+        for (DayOfWeek day : props.getWeekendDays()) {
+            weekdayMultiplier[day.getValue()] = props.getWeekendMultiplier().doubleValue();
+        }
+
+        // highest threshold first, so the first match is the tier that applies
+        List<PricingProperties.OccupancyTier> tiers = props.getOccupancy().stream()
+                .sorted(Comparator.comparingDouble(PricingProperties.OccupancyTier::getMinOccupancy).reversed())
+                .toList();
+        occupancyThresholds = tiers.stream().mapToDouble(PricingProperties.OccupancyTier::getMinOccupancy).toArray();
+        occupancyMultipliers = tiers.stream().mapToDouble(t -> t.getMultiplier().doubleValue()).toArray();
+
+        List<PricingProperties.LengthOfStay> los = props.getLengthOfStay().stream()
+                .sorted(Comparator.comparingInt(PricingProperties.LengthOfStay::getMinNights).reversed())
+                .toList();
+        losMinNights = los.stream().mapToInt(PricingProperties.LengthOfStay::getMinNights).toArray();
+        losDiscounts = los.stream().mapToDouble(l -> l.getDiscount().doubleValue()).toArray();
+    }
+
+    /**
+     * @param availableRooms rooms still free on each night of the stay; a negative entry
+     *                       means unknown and skips the occupancy surcharge for that night
+     */
+    public PriceQuote quote(long baseCents, int totalRooms, LocalDate checkIn, int nights, int[] availableRooms) {
+        long[] nightly = new long[nights];
+        long subtotal = 0;
+        int slot = slot(checkIn.getMonthValue(), checkIn.getDayOfMonth());
+        int weekday = checkIn.getDayOfWeek().getValue();
+        int year = checkIn.getYear();
+        boolean leap = checkIn.isLeapYear();
+        for (int i = 0; i < nights; i++) {
+            double m = seasonByDay[slot] * weekdayMultiplier[weekday]
+                    * occupancyMultiplier(totalRooms, availableRooms[i]);
+            nightly[i] = Math.round(baseCents * m);
+            subtotal += nightly[i];
+
+            weekday = weekday == 7 ? 1 : weekday + 1;
+            // Feb 29 only exists in leap years; Dec 31 wraps to Jan 1
+            slot = slot == 58 && !leap ? 60 : (slot + 1) % 366;
+            if (slot == 0) {
+                leap = isLeap(++year);
+            }
+        }
+        long discount = Math.round(subtotal * lengthOfStayDiscount(nights));
+        return new PriceQuote(nightly, subtotal, discount, subtotal - discount);
+    }
+
+    private double occupancyMultiplier(int totalRooms, int available) {
+        if (available < 0 || totalRooms <= 0) {
+            return 1.0;
+        }
+        double occupancy = 1.0 - (double) available / totalRooms;
+        for (int i = 0; i < occupancyThresholds.length; i++) {
+            if (occupancy >= occupancyThresholds[i]) {
+                return occupancyMultipliers[i];
+            }
+        }
+        return 1.0;
+    }
+
+    private double lengthOfStayDiscount(int nights) {
+        for (int i = 0; i < losMinNights.length; i++) {
+            if (nights >= losMinNights[i]) {
+                return losDiscounts[i];
+            }
+        }
+        return 0.0;
+    }
+
+    private static int slot(MonthDay md) {
+        return slot(md.getMonthValue(), md.getDayOfMonth());
+    }
+
+    private static int slot(int month, int day) {
+        return MONTH_OFFSET[month] + day - 1;
+    }
+
+    private static boolean isLeap(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+}
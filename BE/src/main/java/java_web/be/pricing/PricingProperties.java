@@ -0,0 +1,50 @@
+package java_web.be.pricing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Rule sets of the pricing engine (app.pricing.*). Read once at startup and compiled into
+ * lookup tables by {@link PricingEngine}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.pricing")
+public class PricingProperties {
+
+    private Set<DayOfWeek> weekendDays = EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY);
+    private BigDecimal weekendMultiplier = BigDecimal.ONE;
+    private List<Season> seasons = new ArrayList<>();
+    private List<OccupancyTier> occupancy = new ArrayList<>();
+    private List<LengthOfStay> lengthOfStay = new ArrayList<>();
+
+    // from/to are MM-dd and inclusive; a season may wrap the year end (12-20 .. 01-05)
+    @Data
+    public static class Season {
+        private String name;
+        private String from;
+        private String to;
+        private BigDecimal multiplier;
+    }
+
+    // applies when the share of rooms already sold that night is >= minOccupancy
+    @Data
+    public static class OccupancyTier {
+        private double minOccupancy;
+        private BigDecimal multiplier;
+    }
+
+    @Data
+    public static class LengthOfStay {
+        private int minNights;
+        private BigDecimal discount;
+    }
+}
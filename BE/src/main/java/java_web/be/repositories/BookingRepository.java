@@ -0,0 +1,58 @@
+package java_web.be.repositories;
+
+import java_web.be.dtos.response.BookingResponse;
+import java_web.be.model.Booking;
+import java_web.be.model.enums.BookingStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface BookingRepository extends JpaRepository<Booking, Long> {
+
+    // Compare-and-set on status; 0 means the booking already moved on.
+    @Modifying
+    @Query("update Booking b set b.status = :to, b.updatedAt = :now " +
+            "where b.bookingId = :bookingId and b.status = :from")
+    int transition(@Param("bookingId") Long bookingId,
+                   @Param("from") BookingStatus from,
+                   @Param("to") BookingStatus to,
+                   @Param("now") Instant now);
+
+    // Keyset pages over (created_at DESC, booking_id DESC), served by idx_booking_user_created.
+    @Query("select new java_web.be.dtos.response.BookingResponse(b.bookingId, b.roomType.roomTypeId, " +
+            "b.checkIn, b.checkOut, b.totalPrice, b.status, b.createdAt) from Booking b " +
+            "where b.user.userId = :userId " +
+            "and (:status is null or b.status = :status) " +
+            "and (:from is null or b.checkIn >= :from) and (:to is null or b.checkIn < :to) " +
+            "and (b.createdAt < :afterCreatedAt or (b.createdAt = :afterCreatedAt and b.bookingId < :afterId)) " +
+            "order by b.createdAt desc, b.bookingId desc")
+    List<BookingResponse> findUserHistory(@Param("userId") Long userId,
+                                          @Param("status") BookingStatus status,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to,
+                                          @Param("afterCreatedAt") Instant afterCreatedAt,
+                                          @Param("afterId") Long afterId,
+                                          Pageable pageable);
+
+    // Same ordering per room type, served by idx_booking_roomtype_created.
+    @Query("select new java_web.be.dtos.response.BookingResponse(b.bookingId, b.roomType.roomTypeId, " +
+            "b.checkIn, b.checkOut, b.totalPrice, b.status, b.createdAt) from Booking b " +
+            "where b.roomType.roomTypeId = :roomTypeId " +
+            "and (:status is null or b.status = :status) " +
+            "and (:from is null or b.checkIn >= :from) and (:to is null or b.checkIn < :to) " +
+            "and (b.createdAt < :afterCreatedAt or (b.createdAt = :afterCreatedAt and b.bookingId < :afterId)) " +
+            "order by b.createdAt desc, b.bookingId desc")
+    List<BookingResponse> findRoomTypeHistory(@Param("roomTypeId") Long roomTypeId,
+                                              @Param("status") BookingStatus status,
+                                              @Param("from") LocalDate from,
+                                              @Param("to") LocalDate to,
+                                              @Param("afterCreatedAt") Instant afterCreatedAt,
+                                              @Param("afterId") Long afterId,
+                                              Pageable pageable);
+}
@@ -0,0 +1,8 @@
+package java_web.be.repositories;
+
+import java_web.be.model.Facility;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface FacilityRepository extends JpaRepository<Facility, Long> {
+    boolean existsByName(String name);
+}
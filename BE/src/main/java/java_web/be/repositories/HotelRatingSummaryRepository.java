@@ -0,0 +1,42 @@
+package java_web.be.repositories;
+
+import jakarta.persistence.QueryHint;
+import java_web.be.model.HotelRatingSummary;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface HotelRatingSummaryRepository extends JpaRepository<HotelRatingSummary, Long> {
+
+    /**
+     * Adds ({@code delta = 1}) or removes ({@code delta = -1}) one review of {@code rating}
+     * stars. A single upsert, so concurrent reviews of the same hotel never lose updates.
+     * A removal that finds no row (a summary lost or never built) inserts an empty one rather
+     * than negative counts.
+     * The native space limits Hibernate's post-update eviction to this table; without it every
+     * second-level cache region and cached query is dropped on each review write.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "hotel_rating_summaries"))
+    @Query(value = """
+            INSERT INTO hotel_rating_summaries
+                (hotel_id, review_count, rating_sum, star1, star2, star3, star4, star5, average_rating)
+            VALUES (:hotelId, GREATEST(:delta, 0), GREATEST(:delta, 0) * :rating,
+                    IF(:rating = 1, GREATEST(:delta, 0), 0), IF(:rating = 2, GREATEST(:delta, 0), 0),
+                    IF(:rating = 3, GREATEST(:delta, 0), 0), IF(:rating = 4, GREATEST(:delta, 0), 0),
+                    IF(:rating = 5, GREATEST(:delta, 0), 0), IF(:delta > 0, :rating, 0))
+            ON DUPLICATE KEY UPDATE
+                review_count = review_count + :delta,
+                rating_sum = rating_sum + :delta * :rating,
+                star1 = star1 + IF(:rating = 1, :delta, 0),
+                star2 = star2 + IF(:rating = 2, :delta, 0),
+                star3 = star3 + IF(:rating = 3, :delta, 0),
+                star4 = star4 + IF(:rating = 4, :delta, 0),
+                star5 = star5 + IF(:rating = 5, :delta, 0),
+                average_rating = IF(review_count = 0, 0, rating_sum / review_count)
+            """, nativeQuery = true)
+    int applyDelta(@Param("hotelId") Long hotelId, @Param("delta") int delta, @Param("rating") int rating);
+}
@@ -0,0 +1,115 @@
+package java_web.be.repositories;
+
+import jakarta.persistence.QueryHint;
+import java_web.be.model.Facility;
+import java_web.be.model.Hotel;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface HotelRepository extends JpaRepository<Hotel, Long> {
+
+    @Query("select h.hotelId from Hotel h where h.updatedAt > :since")
+    List<Long> findIdsUpdatedSince(@Param("since") Instant since);
+
+    @EntityGraph(attributePaths = "images")
+    Optional<Hotel> findWithImagesByHotelId(Long hotelId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select f from Hotel h join h.facilities f where h.hotelId = :hotelId order by f.name")
+    List<Facility> findFacilities(@Param("hotelId") Long hotelId);
+
+    /**
+     * Hotels in {@code city} with at least one room type that fits {@code guests} and has a
+     * free room on every night of [checkIn, checkOut). The per-room-type check is a single
+     * GROUP BY over the (room_type_id, date) index; results are keyset-paged by hotel id.
+     */
+    @Query(value = """
+            SELECT h.hotel_id AS hotelId, h.hotel_name AS hotelName, h.city AS city,
+                   h.country AS country, MIN(a.base_price) AS minPrice,
+                   MAX(s.average_rating) AS averageRating, MAX(s.review_count) AS reviewCount
+            FROM hotels h
+            LEFT JOIN hotel_rating_summaries s ON s.hotel_id = h.hotel_id
+            JOIN (
+                SELECT rt.hotel_id, rt.base_price
+                FROM hotels hc
+                JOIN room_types rt ON rt.hotel_id = hc.hotel_id
+                JOIN room_availability ra ON ra.room_type_id = rt.room_type_id
+                WHERE hc.city = :city
+                  AND hc.hotel_id > :afterId
+                  AND rt.capacity >= :guests
+                  AND ra.date >= :checkIn AND ra.date < :checkOut
+                GROUP BY rt.room_type_id, rt.hotel_id, rt.base_price
+                HAVING COUNT(*) = :nights AND MIN(ra.available_rooms) > 0
+            ) a ON a.hotel_id = h.hotel_id
+            WHERE (:minRating IS NULL OR s.average_rating >= :minRating)
+            GROUP BY h.hotel_id, h.hotel_name, h.city, h.country
+            ORDER BY h.hotel_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<HotelSearchRow> searchAvailable(@Param("city") String city,
+                                         @Param("checkIn") LocalDate checkIn,
+                                         @Param("checkOut") LocalDate checkOut,
+                                         @Param("nights") long nights,
+                                         @Param("guests") int guests,
+                                         @Param("minRating") BigDecimal minRating,
+                                         @Param("afterId") long afterId,
+                                         @Param("limit") int limit);
+
+    /**
+     * Keyword search over the ft_hotel_search FULLTEXT index (name, city, address, description),
+     * best match first. {@code terms} is a BOOLEAN MODE expression built by HotelSearchServiceImpl.
+     */
+    @Query(value = """
+            SELECT h.hotel_id AS hotelId, h.hotel_name AS hotelName, h.city AS city,
+                   h.country AS country,
+                   (SELECT MIN(rt.base_price) FROM room_types rt WHERE rt.hotel_id = h.hotel_id) AS minPrice,
+                   s.average_rating AS averageRating, s.review_count AS reviewCount
+            FROM hotels h
+            LEFT JOIN hotel_rating_summaries s ON s.hotel_id = h.hotel_id
+            WHERE MATCH (h.hotel_name, h.city, h.address, h.description) AGAINST (:terms IN BOOLEAN MODE)
+              AND (:city IS NULL OR h.city = :city)
+            ORDER BY MATCH (h.hotel_name, h.city, h.address, h.description) AGAINST (:terms IN BOOLEAN MODE) DESC,
+                     h.hotel_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<HotelSearchRow> searchKeyword(@Param("terms") String terms,
+                                       @Param("city") String city,
+                                       @Param("limit") int limit);
+
+    // feeds HotelSuggestIndex rebuilds, keyset-paged by id
+    @Query("select h.hotelId as hotelId, h.hotelName as hotelName, h.city as city, h.country as country " +
+            "from Hotel h where h.hotelId > :afterId order by h.hotelId")
+    List<HotelSuggestRow> findSuggestRows(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select h.hotelId as hotelId, h.hotelName as hotelName, h.city as city, h.country as country " +
+            "from Hotel h where h.hotelId in :ids")
+    List<HotelSuggestRow> findSuggestRowsByIds(@Param("ids") List<Long> ids);
+
+    interface HotelSuggestRow {
+        Long getHotelId();
+        String getHotelName();
+        String getCity();
+        String getCountry();
+    }
+
+    interface HotelSearchRow {
+        Long getHotelId();
+        String getHotelName();
+        String getCity();
+        String getCountry();
+        BigDecimal getMinPrice();
+        BigDecimal getAverageRating();
+        Integer getReviewCount();
+    }
+}
@@ -0,0 +1,38 @@
+package java_web.be.repositories;
+
+import java_web.be.model.OutboxEvent;
+import java_web.be.model.enums.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks up to {@code limit} due events. SKIP LOCKED lets several dispatcher instances
+     * claim disjoint batches without waiting on each other.
+     */
+    @Query(value = "SELECT id FROM outbox_events WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockDueIds(@Param("now") Instant now, @Param("limit") int limit);
+
+    // Claiming = leasing: the event stays PENDING but is invisible until the lease runs out,
+    // so a dispatcher that dies mid-batch only delays its events.
+    @Modifying
+    @Query("update OutboxEvent e set e.nextAttemptAt = :leaseUntil, e.attempts = e.attempts + 1 where e.id in :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") Instant leaseUntil);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.status = :status, e.sentAt = :at, e.lastError = :error where e.id = :id")
+    int complete(@Param("id") Long id, @Param("status") OutboxStatus status,
+                 @Param("at") Instant at, @Param("error") String error);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.nextAttemptAt = :nextAttemptAt, e.lastError = :error where e.id = :id")
+    int reschedule(@Param("id") Long id, @Param("nextAttemptAt") Instant nextAttemptAt, @Param("error") String error);
+}
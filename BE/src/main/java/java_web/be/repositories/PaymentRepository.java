@@ -0,0 +1,33 @@
+package java_web.be.repositories;
+
+import java_web.be.model.Payment;
+import java_web.be.model.enums.PaymentStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface PaymentRepository extends JpaRepository<Payment, Long> {
+
+    Optional<Payment> findByBookingBookingId(Long bookingId);
+
+    boolean existsByBookingBookingId(Long bookingId);
+
+    // Compare-and-set on status; 0 means another transition got there first.
+    @Modifying
+    @Query("update Payment p set p.status = :to, p.paidAt = :paidAt, p.providerRef = :providerRef " +
+            "where p.paymentId = :paymentId and p.status = :from")
+    int transition(@Param("paymentId") Long paymentId,
+                   @Param("from") PaymentStatus from,
+                   @Param("to") PaymentStatus to,
+                   @Param("paidAt") Instant paidAt,
+                   @Param("providerRef") String providerRef);
+
+    @Modifying
+    @Query("update Payment p set p.status = java_web.be.model.enums.PaymentStatus.REFUNDED " +
+            "where p.paymentId = :paymentId and p.status = java_web.be.model.enums.PaymentStatus.PAID")
+    int markRefunded(@Param("paymentId") Long paymentId);
+}
@@ -0,0 +1,8 @@
+package java_web.be.repositories;
+
+import java_web.be.model.Review;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ReviewRepository extends JpaRepository<Review, Long> {
+    boolean existsByBookingBookingId(Long bookingId);
+}
@@ -1,11 +1,15 @@
 package java_web.be.repositories;
 
+import jakarta.persistence.QueryHint;
 import java_web.be.model.Role;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface RoleRepository extends JpaRepository<Role, Long> {
+    // served from the query cache; runs on every register
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByRoleName(String name);
 }
-
@@ -0,0 +1,51 @@
+package java_web.be.repositories;
+
+import java_web.be.model.RoomAvailability;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface RoomAvailabilityRepository extends JpaRepository<RoomAvailability, Long> {
+
+    // Nights of [checkIn, checkOut) for many room types at once; answered from the covering index.
+    @Query("select ra.roomType.roomTypeId as roomTypeId, ra.date as date, ra.availableRooms as availableRooms " +
+            "from RoomAvailability ra where ra.roomType.roomTypeId in :roomTypeIds " +
+            "and ra.date >= :checkIn and ra.date < :checkOut")
+    List<NightAvailability> findNights(@Param("roomTypeIds") Collection<Long> roomTypeIds,
+                                       @Param("checkIn") LocalDate checkIn,
+                                       @Param("checkOut") LocalDate checkOut);
+
+    /**
+     * Takes one room off every night of [checkIn, checkOut) in a single conditional UPDATE.
+     * Returns the number of nights actually decremented; anything short of the stay length
+     * means some night was sold out and the caller must roll back.
+     */
+    @Modifying
+    @Query("update RoomAvailability ra set ra.availableRooms = ra.availableRooms - 1 " +
+            "where ra.roomType.roomTypeId = :roomTypeId " +
+            "and ra.date >= :checkIn and ra.date < :checkOut " +
+            "and ra.availableRooms > 0")
+    int reserveOne(@Param("roomTypeId") Long roomTypeId,
+                   @Param("checkIn") LocalDate checkIn,
+                   @Param("checkOut") LocalDate checkOut);
+
+    /** Puts back the room taken by {@link #reserveOne} when a booking is cancelled. */
+    @Modifying
+    @Query("update RoomAvailability ra set ra.availableRooms = ra.availableRooms + 1 " +
+            "where ra.roomType.roomTypeId = :roomTypeId " +
+            "and ra.date >= :checkIn and ra.date < :checkOut")
+    int releaseOne(@Param("roomTypeId") Long roomTypeId,
+                   @Param("checkIn") LocalDate checkIn,
+                   @Param("checkOut") LocalDate checkOut);
+
+    interface NightAvailability {
+        Long getRoomTypeId();
+        LocalDate getDate();
+        Integer getAvailableRooms();
+    }
+}
@@ -0,0 +1,35 @@
+package java_web.be.repositories;
+
+import jakarta.persistence.QueryHint;
+import java_web.be.cache.RoomTypeSnapshot;
+import java_web.be.model.RoomType;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface RoomTypeRepository extends JpaRepository<RoomType, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<RoomType> findByHotelHotelIdOrderByBasePriceAsc(Long hotelId);
+
+    @Query("select new java_web.be.cache.RoomTypeSnapshot(rt.roomTypeId, rt.hotel.hotelId, rt.basePrice, " +
+            "rt.capacity, rt.totalRooms) from RoomType rt where rt.roomTypeId = :roomTypeId")
+    Optional<RoomTypeSnapshot> findSnapshotById(@Param("roomTypeId") Long roomTypeId);
+
+    @Query("select rt.roomTypeId as roomTypeId, rt.hotel.hotelId as hotelId from RoomType rt " +
+            "where rt.updatedAt > :since")
+    List<RoomTypeRef> findRefsUpdatedSince(@Param("since") Instant since);
+
+    @Query("select o.userId from RoomType rt join rt.hotel h join h.owner o where rt.roomTypeId = :roomTypeId")
+    Optional<Long> findOwnerId(@Param("roomTypeId") Long roomTypeId);
+
+    interface RoomTypeRef {
+        Long getRoomTypeId();
+        Long getHotelId();
+    }
+}
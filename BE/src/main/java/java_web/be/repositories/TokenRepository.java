@@ -2,13 +2,57 @@ package java_web.be.repositories;
 
 import java_web.be.model.Token;
 import java_web.be.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface TokenRepository extends JpaRepository<Token, Long> {
-    Optional<Token> findByTokenValue(String tokenValue);
+    Optional<Token> findByTokenHash(String tokenHash);
     List<Token> findByUser(User user);
     void deleteByUser(User user);
-}
\ No newline at end of file
+
+    // revoked tokens that are still worth remembering (their JWT has not expired yet), by id
+    @Query("select t.id as id, t.tokenHash as tokenHash, t.expiresAt as expiresAt from Token t " +
+            "where t.revoked = true and (t.expiresAt is null or t.expiresAt > :now) and t.id > :afterId " +
+            "order by t.id")
+    List<TokenDigestRow> findLiveRevoked(@Param("now") LocalDateTime now,
+                                       @Param("afterId") Long afterId,
+                                       Pageable pageable);
+
+    @Query("select t.id as id, t.tokenHash as tokenHash, t.expiresAt as expiresAt from Token t " +
+            "where t.revoked = true and t.revokedAt >= :since")
+    List<TokenDigestRow> findRevokedSince(@Param("since") LocalDateTime since);
+
+    @Query("select t.id as id, t.tokenHash as tokenHash, t.expiresAt as expiresAt from Token t " +
+            "where t.user = :user and t.revoked = false")
+    List<TokenDigestRow> findActiveByUser(@Param("user") User user);
+
+    // single UPDATE instead of loading and saving every token of the user
+    @Modifying
+    @Query("update Token t set t.revoked = true, t.expired = true, t.revokedAt = :now " +
+            "where t.user = :user and t.revoked = false")
+    int revokeAllByUser(@Param("user") User user, @Param("now") LocalDateTime now);
+
+    // rows whose JWT has expired; legacy rows without expires_at fall back to created_at
+    @Query("select t.id from Token t where t.expiresAt < :now " +
+            "or (t.expiresAt is null and t.createdAt < :legacyCutoff)")
+    List<Long> findPurgeableIds(@Param("now") LocalDateTime now,
+                                @Param("legacyCutoff") LocalDateTime legacyCutoff,
+                                Pageable pageable);
+
+    @Modifying
+    @Query("delete from Token t where t.id in :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    interface TokenDigestRow {
+        Long getId();
+        String getTokenHash();
+        LocalDateTime getExpiresAt();
+    }
+}
@@ -2,10 +2,24 @@ package java_web.be.repositories;
 
 
 import java_web.be.model.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @EntityGraph(attributePaths = "roles")
+    Optional<User> findWithRolesByUserId(Long userId);
+
+    @EntityGraph(attributePaths = "roles")
+    Optional<User> findWithRolesByEmail(String email);
+
+    Optional<Credentials> findCredentialsByEmail(String email);
+
+    interface Credentials {
+        Long getUserId();
+        String getPasswordHash();
+    }
 }
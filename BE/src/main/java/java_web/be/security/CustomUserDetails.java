@@ -9,25 +9,39 @@ import java.util.*;
 
 @Getter
 public class CustomUserDetails implements UserDetails {
+    // null when the principal was built from token claims
     private final User user;
+    private final Long userId;
+    private final String email;
     private final Collection<? extends GrantedAuthority> authorities;
 
     public CustomUserDetails(User user) {
         this.user = user;
+        this.userId = user.getUserId();
+        this.email = user.getEmail();
         Set<SimpleGrantedAuthority> auths = new HashSet<>();
         user.getRoles().forEach(r -> auths.add(new SimpleGrantedAuthority("ROLE_" + r.getRoleName())));
         this.authorities = auths;
     }
 
+    public CustomUserDetails(Long userId, String email, Collection<String> roleNames) {
+        this.user = null;
+        this.userId = userId;
+        this.email = email;
+        Set<SimpleGrantedAuthority> auths = new HashSet<>();
+        roleNames.forEach(r -> auths.add(new SimpleGrantedAuthority("ROLE_" + r)));
+        this.authorities = auths;
+    }
+
     @Override public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
     }
     @Override public String getPassword() {
-        return user.getPasswordHash();
+        return user != null ? user.getPasswordHash() : null;
     }
 
     @Override public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     @Override public boolean isAccountNonExpired() {
@@ -1,10 +1,12 @@
 package java_web.be.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -14,6 +16,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -22,6 +25,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService customUserDetailsService;
 
+    // when enabled, the principal comes straight from the uid/roles claims (no DB lookup)
+    @Value("${app.jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
+
     @Override
     protected void doFilterInternal(
             @NonNull HttpServletRequest request,
@@ -29,20 +36,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain) throws ServletException, IOException {
 
         final String authHeader = request.getHeader("Authorization");
-        String token = null;
-        String email = null;
+        Claims claims = null;
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            token = authHeader.substring(7);
-            // validate basic structure before extracting
-            if (jwtTokenProvider.validateToken(token)) {
-                email = jwtTokenProvider.getEmailFromToken(token);
-            }
+            // signature and expiry are verified once here; later checks reuse the claims
+            claims = jwtTokenProvider.resolveClaims(authHeader.substring(7));
         }
 
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
-            if (jwtTokenProvider.isTokenValid(token, userDetails)) {
+        if (claims != null && claims.getSubject() != null
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = statelessPrincipal ? principalFromClaims(claims) : null;
+            if (userDetails == null) {
+                // tokens issued before uid/roles claims existed still go through the database
+                userDetails = customUserDetailsService.loadUserByUsername(claims.getSubject());
+            }
+            if (jwtTokenProvider.isTokenValid(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -52,4 +60,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private UserDetails principalFromClaims(Claims claims) {
+        Long userId = jwtTokenProvider.getUserId(claims);
+        List<String> roles = jwtTokenProvider.getRoles(claims);
+        if (userId == null || roles == null) {
+            return null;
+        }
+        return new CustomUserDetails(userId, claims.getSubject(), roles);
+    }
 }
@@ -1,7 +1,13 @@
 package java_web.be.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import java_web.be.model.Role;
 import java_web.be.model.User;
@@ -10,12 +16,17 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
 public class JwtTokenProvider {
 
+    public static final String REFRESH_TYPE = "refresh";
+
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
@@ -25,52 +36,136 @@ public class JwtTokenProvider {
     @Value("${app.jwt.refresh-token-exp-ms}")
     private Long refreshTokenExpMs;
 
+    @Value("${app.jwt.claims-cache-size:10000}")
+    private long claimsCacheSize;
+
+    private final MeterRegistry meterRegistry;
+    private Timer signTimer;
+    private Timer verifyTimer;
+
     private Key key;
+    private JwtParser parser;
+
+    // token digest -> verified claims, each entry dropped at the token's own exp;
+    // null when claims-cache-size is 0 (maximumSize(0) still holds entries until eviction runs)
+    private Cache<String, Claims> claimsCache;
+
+    public JwtTokenProvider(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
 
     @PostConstruct
     public void init() {
         key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
+        // verify only times the full signature check; cache hits show up in jwt.claims cache metrics
+        signTimer = Timer.builder("auth.jwt").tag("op", "sign").register(meterRegistry);
+        verifyTimer = Timer.builder("auth.jwt").tag("op", "verify").register(meterRegistry);
+        if (claimsCacheSize <= 0) {
+            return;
+        }
+        claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .recordStats()
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+                        long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, claimsCache, "jwt.claims");
     }
 
     public String generateAccessToken(String subject, String role) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + accessTokenExpMs);
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(subject)
                 .claim("role", role)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+                .signWith(key, SignatureAlgorithm.HS256);
+        return sign(builder);
     }
 
     public String generateRefreshToken(String subject) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + refreshTokenExpMs);
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(subject)
+                .claim("typ", REFRESH_TYPE)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+                .signWith(key, SignatureAlgorithm.HS256);
+        return sign(builder);
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * Verifies the signature and expiry of {@code token} once and returns its claims,
+     * or {@code null} if the token is malformed, forged or expired. Successful results
+     * are cached by token digest so repeated calls for the same token skip the HMAC check.
+     */
+    public Claims resolveClaims(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        if (claimsCache == null) {
+            return verify(token);
+        }
+        String digest = TokenDigest.sha256Hex(token);
+        Claims cached = claimsCache.getIfPresent(digest);
+        if (cached != null) {
+            if (!isExpired(cached)) {
+                return cached;
+            }
+            claimsCache.invalidate(digest);
+            return null;
+        }
+        Claims claims = verify(token);
+        if (claims != null && claims.getExpiration() != null) {
+            claimsCache.put(digest, claims);
+        }
+        return claims;
+    }
+
+    private Claims verify(String token) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return parser.parseClaimsJws(token).getBody();
         } catch (JwtException | IllegalArgumentException ex) {
-            return false;
+            return null;
+        } finally {
+            sample.stop(verifyTimer);
         }
     }
 
+    public boolean validateToken(String token) {
+        return resolveClaims(token) != null;
+    }
+
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
         final Claims claims = extractAllClaims(token);
         return claimsResolver.apply(claims);
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        Claims claims = resolveClaims(token);
+        if (claims == null) {
+            throw new JwtException("Invalid or expired JWT");
+        }
+        return claims;
     }
 
     public String getEmailFromToken(String token) {
@@ -83,19 +178,72 @@ public class JwtTokenProvider {
         return r != null ? r.toString() : null;
     }
 
+    /**
+     * Access token carrying the user id and every role name, so the filter can build the
+     * principal without touching the database (see app.jwt.stateless-principal).
+     */
     public String generateAccessToken(User user) {
-        return generateAccessToken(user.getEmail(),
-                user.getRoles().stream().findFirst().map(Role::getRoleName).orElse("CUSTOMER"));
+        List<String> roles = user.getRoles().stream().map(Role::getRoleName).toList();
+        Date now = new Date();
+        Date expiry = new Date(now.getTime() + accessTokenExpMs);
+        JwtBuilder builder = Jwts.builder()
+                .setSubject(user.getEmail())
+                .claim("uid", user.getUserId())
+                .claim("role", roles.isEmpty() ? "CUSTOMER" : roles.get(0))
+                .claim("roles", roles)
+                .setIssuedAt(now)
+                .setExpiration(expiry)
+                .signWith(key, SignatureAlgorithm.HS256);
+        return sign(builder);
+    }
+
+    private String sign(JwtBuilder builder) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return builder.compact();
+        } finally {
+            sample.stop(signTimer);
+        }
+    }
+
+    public long getRefreshTokenExpMs() {
+        return refreshTokenExpMs;
+    }
+
+    public boolean isRefreshToken(Claims claims) {
+        return REFRESH_TYPE.equals(claims.get("typ"));
+    }
+
+    public Long getUserId(Claims claims) {
+        Object uid = claims.get("uid");
+        return uid instanceof Number n ? n.longValue() : null;
+    }
+
+    public List<String> getRoles(Claims claims) {
+        Object roles = claims.get("roles");
+        if (!(roles instanceof Collection<?> c)) {
+            return null;
+        }
+        return c.stream().map(Object::toString).toList();
     }
 
 
     public boolean isTokenExpired(String token) {
-        Date exp = extractClaim(token, Claims::getExpiration);
-        return exp.before(new Date());
+        return isExpired(extractAllClaims(token));
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = getEmailFromToken(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        Claims claims = resolveClaims(token);
+        return claims != null && isTokenValid(claims, userDetails);
+    }
+
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        final String username = claims.getSubject();
+        return (username != null && username.equals(userDetails.getUsername()) && !isExpired(claims));
+    }
+
+    private boolean isExpired(Claims claims) {
+        Date exp = claims.getExpiration();
+        return exp == null || exp.before(new Date());
     }
 }
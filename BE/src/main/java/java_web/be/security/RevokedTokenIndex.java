@@ -0,0 +1,87 @@
+package java_web.be.security;
+
+import java_web.be.repositories.TokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory set of revoked refresh-token digests, so a refresh only needs the signature
+ * check plus a map lookup. Loaded from the tokens table at startup, updated write-through
+ * by AuthServiceImpl, and re-synced periodically to pick up revocations made by other nodes.
+ * Entries are dropped once the underlying JWT has expired, since the signature check
+ * rejects it from then on anyway.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevokedTokenIndex {
+
+    private static final int LOAD_PAGE_SIZE = 5000;
+
+    private final TokenRepository tokenRepo;
+    private final JwtTokenProvider jwtProvider;
+
+    // digest -> JWT expiry (epoch millis)
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastSync;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long afterId = 0L;
+        int loaded = 0;
+        List<TokenRepository.TokenDigestRow> page;
+        do {
+            page = tokenRepo.findLiveRevoked(startedAt, afterId, PageRequest.ofSize(LOAD_PAGE_SIZE));
+            for (TokenRepository.TokenDigestRow t : page) {
+                markRevoked(t.getTokenHash(), t.getExpiresAt());
+                afterId = t.getId();
+            }
+            loaded += page.size();
+        } while (page.size() == LOAD_PAGE_SIZE);
+        lastSync = startedAt;
+        log.info("Revoked token index loaded with {} entries", loaded);
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.revocation-sync-ms:30000}",
+            initialDelayString = "${app.auth.revocation-sync-ms:30000}")
+    public void sync() {
+        LocalDateTime since = lastSync;
+        if (since == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        // small overlap so revocations committed around the previous sync are not missed
+        tokenRepo.findRevokedSince(since.minusSeconds(5))
+                .forEach(t -> markRevoked(t.getTokenHash(), t.getExpiresAt()));
+        lastSync = startedAt;
+
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(exp -> exp < now);
+    }
+
+    public boolean isRevoked(String tokenHash) {
+        return revoked.containsKey(tokenHash);
+    }
+
+    public void markRevoked(String tokenHash, LocalDateTime expiresAt) {
+        long exp = expiresAt != null
+                ? expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : System.currentTimeMillis() + jwtProvider.getRefreshTokenExpMs();
+        revoked.put(tokenHash, exp);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+}
@@ -0,0 +1,11 @@
+package java_web.be.services;
+
+import java_web.be.dtos.request.BookingExportRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface BookingExportService {
+    void validate(BookingExportRequest request);
+    long export(BookingExportRequest request, OutputStream out) throws IOException;
+}
@@ -0,0 +1,13 @@
+package java_web.be.services;
+
+import java_web.be.dtos.request.BookingHistoryRequest;
+import java_web.be.dtos.request.CreateBookingRequest;
+import java_web.be.dtos.response.BookingResponse;
+import java_web.be.dtos.response.CursorPage;
+
+public interface BookingService {
+    BookingResponse createBooking(Long userId, CreateBookingRequest request);
+    CursorPage<BookingResponse> getUserBookings(Long userId, BookingHistoryRequest request);
+    CursorPage<BookingResponse> getRoomTypeBookings(Long requesterId, boolean admin, Long roomTypeId,
+                                                    BookingHistoryRequest request);
+}
@@ -0,0 +1,10 @@
+package java_web.be.services;
+
+import java_web.be.dtos.response.HotelDetailResponse;
+
+public interface HotelDetailService {
+    HotelDetailResponse getHotelDetail(Long hotelId);
+
+    // bypasses the cache
+    HotelDetailResponse loadHotelDetail(Long hotelId);
+}
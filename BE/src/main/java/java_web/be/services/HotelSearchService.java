@@ -0,0 +1,17 @@
+package java_web.be.services;
+
+import java_web.be.dtos.request.HotelSearchRequest;
+import java_web.be.dtos.request.KeywordSearchRequest;
+import java_web.be.dtos.response.CursorPage;
+import java_web.be.dtos.response.HotelSearchItem;
+import java_web.be.dtos.response.SuggestResponse;
+
+import java.util.List;
+
+public interface HotelSearchService {
+    CursorPage<HotelSearchItem> search(HotelSearchRequest request);
+
+    List<HotelSearchItem> searchKeyword(KeywordSearchRequest request);
+
+    SuggestResponse suggest(String prefix, int limit);
+}
@@ -0,0 +1,15 @@
+package java_web.be.services;
+
+import java_web.be.dtos.request.CreatePaymentRequest;
+import java_web.be.dtos.response.PaymentResponse;
+import java_web.be.gateway.ChargeRequest;
+import java_web.be.gateway.ChargeResult;
+import java_web.be.gateway.RefundRequest;
+
+public interface PaymentService {
+    PaymentResponse startPayment(Long userId, Long bookingId, CreatePaymentRequest request);
+    PaymentResponse getPayment(Long userId, Long bookingId);
+    void applyChargeResult(Long eventId, ChargeRequest request, ChargeResult result);
+    void abandonCharge(Long eventId, ChargeRequest request, String error);
+    void applyRefundResult(Long eventId, RefundRequest request, String refundRef);
+}
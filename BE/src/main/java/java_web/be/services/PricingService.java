@@ -0,0 +1,14 @@
+package java_web.be.services;
+
+import java_web.be.cache.RoomTypeSnapshot;
+import java_web.be.dtos.request.QuoteRequest;
+import java_web.be.dtos.response.QuoteResponse;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface PricingService {
+    List<QuoteResponse> quote(QuoteRequest request);
+    BigDecimal priceStay(RoomTypeSnapshot roomType, LocalDate checkIn, LocalDate checkOut);
+}
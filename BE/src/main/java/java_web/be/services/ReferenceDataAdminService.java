@@ -0,0 +1,10 @@
+package java_web.be.services;
+
+import java_web.be.dtos.request.FacilityRequest;
+import java_web.be.dtos.response.FacilityResponse;
+
+public interface ReferenceDataAdminService {
+    FacilityResponse createFacility(FacilityRequest request);
+    FacilityResponse renameFacility(Long facilityId, FacilityRequest request);
+    void evictReferenceCaches();
+}
@@ -0,0 +1,9 @@
+package java_web.be.services;
+
+import java_web.be.dtos.request.CreateReviewRequest;
+import java_web.be.dtos.response.ReviewResponse;
+
+public interface ReviewService {
+    ReviewResponse createReview(Long userId, CreateReviewRequest request);
+    void deleteReview(Long userId, Long reviewId);
+}
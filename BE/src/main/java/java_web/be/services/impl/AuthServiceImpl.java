@@ -1,5 +1,6 @@
 package java_web.be.services.impl;
 
+import io.jsonwebtoken.Claims;
 import java_web.be.dtos.request.LoginRequest;
 import java_web.be.dtos.request.RegisterRequest;
 import java_web.be.dtos.response.AuthResponse;
@@ -10,14 +11,19 @@ import java_web.be.repositories.RoleRepository;
 import java_web.be.repositories.TokenRepository;
 import java_web.be.repositories.UserRepository;
 import java_web.be.security.JwtTokenProvider;
+import java_web.be.security.PasswordHasher;
+import java_web.be.security.RevokedTokenIndex;
+import java_web.be.security.TokenDigest;
 import java_web.be.services.AuthService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
 
 @Service
 @RequiredArgsConstructor
@@ -26,16 +32,28 @@ public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepo;
     private final RoleRepository roleRepo;
     private final TokenRepository tokenRepo;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtProvider;
+    private final TransactionTemplate txTemplate;
+    private final RevokedTokenIndex revokedTokens;
 
+    @Value("${app.auth.revocation-sync-ms:30000}")
+    private long revocationSyncMs;
+
+    // Not @Transactional: BCrypt runs on the hashing pool before any connection is taken,
+    // and only the inserts run inside the transaction.
     @Override
-    @Transactional
     public AuthResponse register(RegisterRequest request) {
         if (userRepo.existsByEmail(request.getEmail())) {
             throw new RuntimeException("Email already exists");
         }
 
+        String passwordHash = passwordHasher.encode(request.getPassword());
+
+        return txTemplate.execute(status -> createUser(request, passwordHash));
+    }
+
+    private AuthResponse createUser(RegisterRequest request, String passwordHash) {
         Role role = roleRepo.findByRoleName("CUSTOMER")
                 .orElseThrow(() -> new RuntimeException("Default role not found"));
 
@@ -43,101 +61,127 @@ public class AuthServiceImpl implements AuthService {
                 .firstName(request.getFirstName())
                 .lastName(request.getLastName())
                 .email(request.getEmail())
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
+                .passwordHash(passwordHash)
                 .phoneNumber(request.getPhoneNumber())
                 .avatarUrl(request.getAvatarUrl())
+                .roles(new HashSet<>())
                 .build();
 
         user.getRoles().add(role);
         user = userRepo.save(user);
 
         String roleName = role.getRoleName();
-        // generate tokens using email + role
-        String accessToken = jwtProvider.generateAccessToken(user.getEmail(), roleName);
+        // generate tokens using email + user id + roles
+        String accessToken = jwtProvider.generateAccessToken(user);
         String refreshToken = jwtProvider.generateRefreshToken(user.getEmail());
 
-        Token t = Token.builder()
-                .tokenValue(refreshToken)
-                .user(user)
-                .createdAt(LocalDateTime.now())
-                .build();
-        tokenRepo.save(t);
+        saveRefreshToken(user, refreshToken);
 
         return new AuthResponse(accessToken, refreshToken, roleName);
     }
 
+    // Not @Transactional: the credential read releases its connection before the hash check,
+    // and the token bookkeeping runs in its own short transaction afterwards.
     @Override
-    @Transactional
     public AuthResponse login(LoginRequest request) {
-        User user = userRepo.findByEmail(request.getEmail())
+        UserRepository.Credentials credentials = userRepo.findCredentialsByEmail(request.getEmail())
                 .orElseThrow(() -> new RuntimeException("Invalid credentials"));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        if (!passwordHasher.matches(request.getPassword(), credentials.getPasswordHash())) {
             throw new RuntimeException("Invalid credentials");
         }
 
+        return txTemplate.execute(status -> issueLoginTokens(credentials.getUserId()));
+    }
+
+    private AuthResponse issueLoginTokens(Long userId) {
+        User user = userRepo.findWithRolesByUserId(userId)
+                .orElseThrow(() -> new RuntimeException("Invalid credentials"));
+
         // Revoke previous tokens for this user
         revokeAllUserTokens(user);
 
         String roleName = user.getRoles().stream().findFirst().map(Role::getRoleName).orElse("CUSTOMER");
-        String accessToken = jwtProvider.generateAccessToken(user.getEmail(), roleName);
+        String accessToken = jwtProvider.generateAccessToken(user);
         String refreshToken = jwtProvider.generateRefreshToken(user.getEmail());
 
-        Token t = Token.builder()
-                .tokenValue(refreshToken)
-                .user(user)
-                .createdAt(LocalDateTime.now())
-                .build();
-        tokenRepo.save(t);
+        saveRefreshToken(user, refreshToken);
 
         return new AuthResponse(accessToken, refreshToken, roleName);
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public AuthResponse refresh(String refreshToken) {
-        Token token = tokenRepo.findByTokenValue(refreshToken)
-                .orElseThrow(() -> new RuntimeException("Invalid refresh token"));
-
-        if (token.isExpired() || token.isRevoked()) {
-            throw new RuntimeException("Refresh token revoked or expired");
+        Claims claims = jwtProvider.resolveClaims(refreshToken);
+        if (claims == null) {
+            throw new RuntimeException("Invalid refresh token");
         }
 
-        if (!jwtProvider.validateToken(refreshToken)) {
-            throw new RuntimeException("Invalid refresh token");
+        String tokenHash = TokenDigest.sha256Hex(refreshToken);
+        if (jwtProvider.isRefreshToken(claims) && !issuedWithin(claims, revocationSyncMs)) {
+            // signed by us and typed as refresh: only the revocation index needs checking
+            if (revokedTokens.isRevoked(tokenHash)) {
+                throw new RuntimeException("Refresh token revoked or expired");
+            }
+        } else {
+            // A token younger than one sync may have been revoked on another node that this
+            // index has not heard about yet. Tokens issued before the typ claim existed are not
+            // indexed at all. Both are checked against the table.
+            Token token = tokenRepo.findByTokenHash(tokenHash)
+                    .orElseThrow(() -> new RuntimeException("Invalid refresh token"));
+            if (token.isExpired() || token.isRevoked()) {
+                throw new RuntimeException("Refresh token revoked or expired");
+            }
         }
 
-        User user = token.getUser();
+        User user = userRepo.findWithRolesByEmail(claims.getSubject())
+                .orElseThrow(() -> new RuntimeException("Invalid refresh token"));
         String roleName = user.getRoles().stream().findFirst().map(Role::getRoleName).orElse("CUSTOMER");
-        String newAccess = jwtProvider.generateAccessToken(user.getEmail(), roleName);
+        String newAccess = jwtProvider.generateAccessToken(user);
 
         // keep same refresh token in this implementation (no rotate)
         return new AuthResponse(newAccess, refreshToken, roleName);
     }
 
+    private static boolean issuedWithin(Claims claims, long millis) {
+        return claims.getIssuedAt() == null
+                || claims.getIssuedAt().getTime() > System.currentTimeMillis() - millis;
+    }
+
     @Override
     @Transactional
     public void logout(String refreshTokenOrEmail) {
-        // support either refreshToken or email for logout
-        tokenRepo.findByTokenValue(refreshTokenOrEmail).ifPresent(t -> {
+        // support either refreshToken or email for logout; a JWT never contains '@'
+        if (refreshTokenOrEmail.contains("@")) {
+            userRepo.findByEmail(refreshTokenOrEmail).ifPresent(this::revokeAllUserTokens);
+            return;
+        }
+
+        tokenRepo.findByTokenHash(TokenDigest.sha256Hex(refreshTokenOrEmail)).ifPresent(t -> {
             t.setExpired(true);
             t.setRevoked(true);
             t.setRevokedAt(LocalDateTime.now());
             tokenRepo.save(t);
+            revokedTokens.markRevoked(t.getTokenHash(), t.getExpiresAt());
         });
+    }
 
-        userRepo.findByEmail(refreshTokenOrEmail).ifPresent(user -> {
-            revokeAllUserTokens(user);
-        });
+    private void saveRefreshToken(User user, String refreshToken) {
+        LocalDateTime now = LocalDateTime.now();
+        Token t = Token.builder()
+                .tokenHash(TokenDigest.sha256Hex(refreshToken))
+                .user(user)
+                .createdAt(now)
+                .expiresAt(now.plus(jwtProvider.getRefreshTokenExpMs(), ChronoUnit.MILLIS))
+                .build();
+        tokenRepo.save(t);
     }
 
     private void revokeAllUserTokens(User user) {
-        List<Token> tokens = tokenRepo.findByUser(user);
-        tokens.forEach(t -> {
-            t.setExpired(true);
-            t.setRevoked(true);
-            t.setRevokedAt(LocalDateTime.now());
-        });
-        tokenRepo.saveAll(tokens);
+        // digests first so the in-memory index can be updated write-through
+        tokenRepo.findActiveByUser(user)
+                .forEach(t -> revokedTokens.markRevoked(t.getTokenHash(), t.getExpiresAt()));
+        tokenRepo.revokeAllByUser(user, LocalDateTime.now());
     }
 }
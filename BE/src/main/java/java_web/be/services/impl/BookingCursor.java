@@ -0,0 +1,32 @@
+package java_web.be.services.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position in a (createdAt DESC, bookingId DESC) listing, encoded as an opaque URL-safe string.
+ */
+record BookingCursor(Instant createdAt, Long bookingId) {
+
+    // sorts after every real row, i.e. the first page
+    static final BookingCursor START = new BookingCursor(Instant.parse("9999-12-31T23:59:59Z"), Long.MAX_VALUE);
+
+    static BookingCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new BookingCursor(Instant.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException ex) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+
+    String encode() {
+        String raw = createdAt + "|" + bookingId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,215 @@
+package java_web.be.services.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java_web.be.dtos.request.BookingExportRequest;
+import java_web.be.model.enums.ExportFormat;
+import java_web.be.services.BookingExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams bookings joined with their payment straight from a forward-only MySQL result set
+ * (fetch size Integer.MIN_VALUE makes Connector/J hand over one row at a time) into the
+ * response, so memory stays flat regardless of the row count. Nothing goes through JPA.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookingExportServiceImpl implements BookingExportService {
+
+    // ordered on idx_booking_created so MySQL reads the range in index order without a filesort
+    private static final String EXPORT_SQL =
+            "SELECT b.booking_id, b.user_id, b.room_type_id, b.check_in, b.check_out, b.total_price, " +
+            "       b.status, b.created_at, p.payment_id, p.amount, p.method, p.status, p.paid_at " +
+            "FROM bookings b LEFT JOIN payments p ON p.booking_id = b.booking_id " +
+            "WHERE b.created_at >= ? AND b.created_at < ? " +
+            "ORDER BY b.created_at, b.booking_id";
+
+    private static final String[] COLUMNS = {
+            "bookingId", "userId", "roomTypeId", "checkIn", "checkOut", "totalPrice", "bookingStatus",
+            "createdAt", "paymentId", "amount", "method", "paymentStatus", "paidAt"
+    };
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final JdbcTemplate jdbc;
+
+    @Value("${app.export.max-range-days:31}")
+    private int maxRangeDays;
+
+    @Value("${app.export.buffer-size:65536}")
+    private int bufferSize;
+
+    @Override
+    public void validate(BookingExportRequest request) {
+        if (!request.getFrom().isBefore(request.getTo())) {
+            throw new RuntimeException("from must be before to");
+        }
+        if (Duration.between(request.getFrom(), request.getTo()).toDays() > maxRangeDays) {
+            throw new RuntimeException("Export range cannot exceed " + maxRangeDays + " days");
+        }
+    }
+
+    @Override
+    public long export(BookingExportRequest request, OutputStream out) throws IOException {
+        OutputStream sink = request.isGzip() ? new GZIPOutputStream(out, bufferSize) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(sink, StandardCharsets.UTF_8), bufferSize);
+        RowWriter rows = request.getFormat() == ExportFormat.NDJSON ? new NdjsonRowWriter(writer) : new CsvRowWriter(writer);
+
+        long started = System.currentTimeMillis();
+        long[] count = {0};
+        PreparedStatement[] statement = new PreparedStatement[1];
+        rows.header();
+        jdbc.query(con -> {
+            PreparedStatement ps = con.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setTimestamp(1, Timestamp.from(request.getFrom()));
+            ps.setTimestamp(2, Timestamp.from(request.getTo()));
+            statement[0] = ps;
+            return ps;
+        }, rs -> {
+            try {
+                rows.write(rs);
+            } catch (IOException ex) {
+                // Client went away. Closing a streaming result set makes Connector/J read every
+                // remaining row, so kill the query on the server first and the close is quick.
+                cancel(statement[0], ex);
+                throw new UncheckedIOException(ex);
+            }
+            count[0]++;
+        });
+        rows.finish();
+        writer.flush();
+        if (sink instanceof GZIPOutputStream gz) {
+            gz.finish();
+        }
+        log.info("Booking export {}..{} ({}): {} rows in {} ms", request.getFrom(), request.getTo(),
+                request.getFormat(), count[0], System.currentTimeMillis() - started);
+        return count[0];
+    }
+
+    private static void cancel(PreparedStatement ps, IOException cause) {
+        try {
+            ps.cancel();
+        } catch (SQLException ex) {
+            cause.addSuppressed(ex);
+        }
+    }
+
+    private interface RowWriter {
+        void header() throws IOException;
+        void write(ResultSet rs) throws SQLException, IOException;
+        void finish() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer out;
+
+        CsvRowWriter(Writer out) {
+            this.out = out;
+        }
+
+        @Override
+        public void header() throws IOException {
+            out.write(String.join(",", COLUMNS));
+            out.write('\n');
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            for (int i = 1; i <= COLUMNS.length; i++) {
+                if (i > 1) {
+                    out.write(',');
+                }
+                Object v = value(rs, i);
+                if (v != null) {
+                    writeField(v.toString());
+                }
+            }
+            out.write('\n');
+        }
+
+        private void writeField(String s) throws IOException {
+            if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) {
+                out.write(s);
+                return;
+            }
+            out.write('"');
+            out.write(s.replace("\"", "\"\""));
+            out.write('"');
+        }
+
+        @Override
+        public void finish() {
+        }
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator gen;
+
+        NdjsonRowWriter(Writer out) throws IOException {
+            this.gen = JSON.createGenerator(out);
+            this.gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void header() {
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            gen.writeStartObject();
+            for (int i = 1; i <= COLUMNS.length; i++) {
+                Object v = value(rs, i);
+                gen.writeFieldName(COLUMNS[i - 1]);
+                if (v == null) {
+                    gen.writeNull();
+                } else if (v instanceof Long l) {
+                    gen.writeNumber(l);
+                } else if (v instanceof BigDecimal d) {
+                    gen.writeNumber(d);
+                } else {
+                    gen.writeString(v.toString());
+                }
+            }
+            gen.writeEndObject();
+            gen.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            gen.flush();
+        }
+    }
+
+    // timestamps are written as ISO instants, ids as longs, money as exact decimals
+    private static Object value(ResultSet rs, int i) throws SQLException {
+        return switch (i) {
+            case 1, 2, 3, 9 -> {
+                long v = rs.getLong(i);
+                yield rs.wasNull() ? null : v;
+            }
+            case 4, 5 -> rs.getString(i);
+            case 6, 10 -> rs.getBigDecimal(i);
+            case 8, 13 -> {
+                Timestamp ts = rs.getTimestamp(i);
+                yield ts == null ? null : ts.toInstant();
+            }
+            default -> rs.getString(i);
+        };
+    }
+}
@@ -0,0 +1,163 @@
+package java_web.be.services.impl;
+
+import java_web.be.cache.HotelCache;
+import java_web.be.cache.RoomTypeSnapshot;
+import java_web.be.dtos.request.BookingHistoryRequest;
+import java_web.be.dtos.request.CreateBookingRequest;
+import java_web.be.dtos.response.BookingResponse;
+import java_web.be.dtos.response.CursorPage;
+import java_web.be.exceptions.TooManyRequestsException;
+import java_web.be.model.Booking;
+import java_web.be.model.enums.BookingStatus;
+import java_web.be.repositories.BookingRepository;
+import java_web.be.repositories.RoomAvailabilityRepository;
+import java_web.be.repositories.RoomTypeRepository;
+import java_web.be.repositories.UserRepository;
+import java_web.be.services.BookingService;
+import java_web.be.services.PricingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+@RequiredArgsConstructor
+public class BookingServiceImpl implements BookingService {
+
+    private final BookingRepository bookingRepo;
+    private final RoomTypeRepository roomTypeRepo;
+    private final RoomAvailabilityRepository availabilityRepo;
+    private final UserRepository userRepo;
+    private final TransactionTemplate txTemplate;
+    private final HotelCache hotelCache;
+    private final PricingService pricingService;
+
+    @Value("${app.booking.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.booking.max-nights:30}")
+    private int maxNights;
+
+    @Value("${app.booking.max-page-size:100}")
+    private int maxPageSize;
+
+    // Inventory is taken with one conditional UPDATE per booking, so there is no
+    // read-modify-write to oversell. Lock waits/deadlocks between overlapping stays
+    // are retried a bounded number of times with jittered backoff.
+    @Override
+    public BookingResponse createBooking(Long userId, CreateBookingRequest request) {
+        LocalDate checkIn = request.getCheckIn();
+        LocalDate checkOut = request.getCheckOut();
+        if (checkIn.isBefore(LocalDate.now())) {
+            throw new RuntimeException("Check-in date is in the past");
+        }
+        long nights = ChronoUnit.DAYS.between(checkIn, checkOut);
+        if (nights <= 0) {
+            throw new RuntimeException("Check-out must be after check-in");
+        }
+        if (nights > maxNights) {
+            throw new RuntimeException("Stay cannot exceed " + maxNights + " nights");
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return txTemplate.execute(status -> reserveAndCreate(userId, request, nights));
+            } catch (PessimisticLockingFailureException ex) {
+                if (attempt >= maxAttempts) {
+                    throw new TooManyRequestsException("Room is in high demand, please retry");
+                }
+                backoff(attempt);
+            }
+        }
+    }
+
+    private BookingResponse reserveAndCreate(Long userId, CreateBookingRequest request, long nights) {
+        RoomTypeSnapshot roomType = hotelCache.getRoomType(request.getRoomTypeId(), id -> roomTypeRepo.findSnapshotById(id)
+                .orElseThrow(() -> new RuntimeException("Room type not found")));
+
+        if (request.getAdultsCount() + request.getChildrenCount() > roomType.capacity()) {
+            throw new RuntimeException("Room type capacity exceeded");
+        }
+
+        BigDecimal totalPrice = pricingService.priceStay(roomType, request.getCheckIn(), request.getCheckOut());
+        int reserved = availabilityRepo.reserveOne(roomType.roomTypeId(), request.getCheckIn(), request.getCheckOut());
+        if (reserved != nights) {
+            // throwing rolls back the nights that were decremented
+            throw new RuntimeException("No rooms available for the selected dates");
+        }
+
+        Booking booking = Booking.builder()
+                .user(userRepo.getReferenceById(userId))
+                .roomType(roomTypeRepo.getReferenceById(roomType.roomTypeId()))
+                .checkIn(request.getCheckIn())
+                .checkOut(request.getCheckOut())
+                .totalPrice(totalPrice)
+                .status(BookingStatus.PENDING)
+                .adultsCount(request.getAdultsCount())
+                .childrenCount(request.getChildrenCount())
+                .infantsCount(request.getInfantsCount())
+                .build();
+        booking = bookingRepo.save(booking);
+
+        return new BookingResponse(booking.getBookingId(), roomType.roomTypeId(), booking.getCheckIn(),
+                booking.getCheckOut(), booking.getTotalPrice(), booking.getStatus(), booking.getCreatedAt());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<BookingResponse> getUserBookings(Long userId, BookingHistoryRequest request) {
+        BookingCursor after = BookingCursor.decode(request.getCursor());
+        int size = Math.min(request.getSize(), maxPageSize);
+        List<BookingResponse> rows = bookingRepo.findUserHistory(userId, request.getStatus(),
+                request.getFrom(), request.getTo(), after.createdAt(), after.bookingId(),
+                PageRequest.ofSize(size + 1));
+        return toPage(rows, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<BookingResponse> getRoomTypeBookings(Long requesterId, boolean admin, Long roomTypeId,
+                                                           BookingHistoryRequest request) {
+        if (!admin) {
+            Long ownerId = roomTypeRepo.findOwnerId(roomTypeId).orElse(null);
+            if (!requesterId.equals(ownerId)) {
+                throw new RuntimeException("Only the hotel owner can list these bookings");
+            }
+        }
+        BookingCursor after = BookingCursor.decode(request.getCursor());
+        int size = Math.min(request.getSize(), maxPageSize);
+        List<BookingResponse> rows = bookingRepo.findRoomTypeHistory(roomTypeId, request.getStatus(),
+                request.getFrom(), request.getTo(), after.createdAt(), after.bookingId(),
+                PageRequest.ofSize(size + 1));
+        return toPage(rows, size);
+    }
+
+    // rows were fetched with one extra element to detect the next page
+    private CursorPage<BookingResponse> toPage(List<BookingResponse> rows, int size) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<BookingResponse> items = rows.subList(0, size);
+        BookingResponse last = items.get(size - 1);
+        return new CursorPage<>(items, new BookingCursor(last.getCreatedAt(), last.getBookingId()).encode());
+    }
+
+    private void backoff(int attempt) {
+        long maxDelayMs = 20L << attempt;
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxDelayMs / 2, maxDelayMs));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TooManyRequestsException("Room is in high demand, please retry");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package java_web.be.services.impl;
+
+import jakarta.annotation.PostConstruct;
+import java_web.be.cache.HotelCache;
+import java_web.be.dtos.response.FacilityResponse;
+import java_web.be.dtos.response.HotelDetailResponse;
+import java_web.be.dtos.response.HotelImageResponse;
+import java_web.be.dtos.response.RoomTypeResponse;
+import java_web.be.model.Hotel;
+import java_web.be.model.HotelRatingSummary;
+import java_web.be.repositories.HotelRatingSummaryRepository;
+import java_web.be.repositories.HotelRepository;
+import java_web.be.repositories.RoomTypeRepository;
+import java_web.be.services.HotelDetailService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class HotelDetailServiceImpl implements HotelDetailService {
+
+    private final HotelRepository hotelRepo;
+    private final RoomTypeRepository roomTypeRepo;
+    private final HotelRatingSummaryRepository ratingSummaryRepo;
+    private final HotelCache hotelCache;
+    private final PlatformTransactionManager txManager;
+
+    private TransactionTemplate readOnlyTx;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTx = new TransactionTemplate(txManager);
+        readOnlyTx.setReadOnly(true);
+    }
+
+    // Served from HotelCache; concurrent misses for one hotel share a single load.
+    @Override
+    public HotelDetailResponse getHotelDetail(Long hotelId) {
+        return hotelCache.getHotelDetail(hotelId, id -> readOnlyTx.execute(status -> loadHotelDetail(id)));
+    }
+
+    // Exactly four SELECTs whatever the hotel size: hotel + images (one join), facilities,
+    // room types, rating summary. Each collection is fetched on its own to avoid a
+    // cartesian product, and nothing lazy is left for Jackson to trip over.
+    @Override
+    @Transactional(readOnly = true)
+    public HotelDetailResponse loadHotelDetail(Long hotelId) {
+        Hotel hotel = hotelRepo.findWithImagesByHotelId(hotelId)
+                .orElseThrow(() -> new RuntimeException("Hotel not found"));
+
+        List<HotelImageResponse> images = hotel.getImages().stream()
+                .sorted(Comparator.comparing(i -> i.getImageId()))
+                .map(i -> new HotelImageResponse(i.getImageId(), i.getImageUrl()))
+                .toList();
+
+        List<FacilityResponse> facilities = hotelRepo.findFacilities(hotelId).stream()
+                .map(f -> new FacilityResponse(f.getFacilityId(), f.getName()))
+                .toList();
+
+        List<RoomTypeResponse> roomTypes = roomTypeRepo.findByHotelHotelIdOrderByBasePriceAsc(hotelId).stream()
+                .map(rt -> new RoomTypeResponse(rt.getRoomTypeId(), rt.getTypeName(), rt.getBasePrice(),
+                        rt.getCapacity(), rt.getTotalRooms(), rt.getDescription()))
+                .toList();
+
+        HotelRatingSummary rating = ratingSummaryRepo.findById(hotelId).orElse(null);
+
+        return new HotelDetailResponse(hotel.getHotelId(), hotel.getHotelName(), hotel.getAddress(),
+                hotel.getCity(), hotel.getCountry(), hotel.getDescription(),
+                rating != null ? rating.getAverageRating() : BigDecimal.ZERO,
+                rating != null ? rating.getReviewCount() : 0,
+                images, facilities, roomTypes);
+    }
+}
@@ -0,0 +1,141 @@
+package java_web.be.services.impl;
+
+import java_web.be.cache.HotelSuggestIndex;
+import java_web.be.dtos.request.HotelSearchRequest;
+import java_web.be.dtos.request.KeywordSearchRequest;
+import java_web.be.dtos.response.CitySuggestion;
+import java_web.be.dtos.response.CursorPage;
+import java_web.be.dtos.response.HotelSearchItem;
+import java_web.be.dtos.response.HotelSuggestion;
+import java_web.be.dtos.response.SuggestResponse;
+import java_web.be.repositories.HotelRepository;
+import java_web.be.services.HotelSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class HotelSearchServiceImpl implements HotelSearchService {
+
+    // anything that is not part of a word, including the BOOLEAN MODE operators
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_KEYWORD_TERMS = 8;
+    // InnoDB's built-in stopword list (INFORMATION_SCHEMA.INNODB_FT_DEFAULT_STOPWORD); never indexed
+    private static final Set<String> FT_STOPWORDS = Set.of(
+            "a", "about", "an", "are", "as", "at", "be", "by", "com", "de", "en", "for", "from", "how",
+            "i", "in", "is", "it", "la", "of", "on", "or", "that", "the", "this", "to", "was", "what",
+            "when", "where", "who", "will", "with", "und", "www");
+
+    private final HotelRepository hotelRepo;
+    private final HotelSuggestIndex suggestIndex;
+
+    @Value("${app.search.max-nights:30}")
+    private int maxNights;
+
+    @Value("${app.search.max-page-size:50}")
+    private int maxPageSize;
+
+    // must equal the server's innodb_ft_min_token_size: shorter words are not in the index
+    @Value("${app.search.keyword.min-token-size:3}")
+    private int minTokenSize;
+
+    @Value("${app.search.suggest.max-results:10}")
+    private int maxSuggestions;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<HotelSearchItem> search(HotelSearchRequest request) {
+        LocalDate checkIn = request.getCheckIn();
+        LocalDate checkOut = request.getCheckOut();
+        if (checkIn.isBefore(LocalDate.now())) {
+            throw new RuntimeException("Check-in date is in the past");
+        }
+        long nights = ChronoUnit.DAYS.between(checkIn, checkOut);
+        if (nights <= 0) {
+            throw new RuntimeException("Check-out must be after check-in");
+        }
+        if (nights > maxNights) {
+            throw new RuntimeException("Stay cannot exceed " + maxNights + " nights");
+        }
+
+        int size = Math.min(request.getSize(), maxPageSize);
+        long afterId = parseCursor(request.getCursor());
+
+        // fetch one extra row to know whether there is a next page
+        List<HotelRepository.HotelSearchRow> rows = hotelRepo.searchAvailable(
+                request.getCity().trim(), checkIn, checkOut, nights, request.getGuests(),
+                request.getMinRating(), afterId, size + 1);
+
+        boolean hasMore = rows.size() > size;
+        List<HotelSearchItem> items = rows.stream()
+                .limit(size)
+                .map(r -> new HotelSearchItem(r.getHotelId(), r.getHotelName(), r.getCity(),
+                        r.getCountry(), r.getMinPrice(), r.getAverageRating(), r.getReviewCount()))
+                .toList();
+        String nextCursor = hasMore ? String.valueOf(items.get(items.size() - 1).getHotelId()) : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<HotelSearchItem> searchKeyword(KeywordSearchRequest request) {
+        // every indexed word is required and may be the start of a longer word. Words the index
+        // never holds (shorter than the min token size, or stopwords) would make a required term
+        // match nothing, so they stay optional: "da nang bea" -> "da* +nang* +bea*"
+        String terms = Arrays.stream(NON_WORD.split(request.getQ().trim()))
+                .filter(t -> !t.isEmpty())
+                .limit(MAX_KEYWORD_TERMS)
+                .map(t -> (isIndexed(t) ? "+" : "") + t + "*")
+                .collect(Collectors.joining(" "));
+        if (terms.isEmpty()) {
+            throw new RuntimeException("Search query has no words");
+        }
+        String city = request.getCity() == null || request.getCity().isBlank() ? null : request.getCity().trim();
+        int size = Math.min(request.getSize(), maxPageSize);
+
+        return hotelRepo.searchKeyword(terms, city, size).stream()
+                .map(r -> new HotelSearchItem(r.getHotelId(), r.getHotelName(), r.getCity(),
+                        r.getCountry(), r.getMinPrice(), r.getAverageRating(), r.getReviewCount()))
+                .toList();
+    }
+
+    // served from memory only; no transaction or connection needed
+    @Override
+    public SuggestResponse suggest(String prefix, int limit) {
+        int max = Math.min(Math.max(limit, 1), maxSuggestions);
+        List<CitySuggestion> cities = suggestIndex.suggestCities(prefix, max).stream()
+                .map(c -> new CitySuggestion(c.city(), c.country(), c.hotelCount()))
+                .toList();
+        List<HotelSuggestion> hotels = suggestIndex.suggestHotels(prefix, max).stream()
+                .map(h -> new HotelSuggestion(h.hotelId(), h.hotelName(), h.city(), h.country()))
+                .toList();
+        return new SuggestResponse(cities, hotels);
+    }
+
+    private boolean isIndexed(String word) {
+        return word.codePointCount(0, word.length()) >= minTokenSize
+                && !FT_STOPWORDS.contains(word.toLowerCase(Locale.ROOT));
+    }
+
+    private long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException ex) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package java_web.be.services.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java_web.be.dtos.request.CreatePaymentRequest;
+import java_web.be.dtos.response.PaymentResponse;
+import java_web.be.gateway.ChargeRequest;
+import java_web.be.gateway.ChargeResult;
+import java_web.be.gateway.RefundRequest;
+import java_web.be.model.Booking;
+import java_web.be.model.OutboxEvent;
+import java_web.be.model.Payment;
+import java_web.be.model.enums.*;
+import java_web.be.repositories.BookingRepository;
+import java_web.be.repositories.OutboxEventRepository;
+import java_web.be.repositories.PaymentRepository;
+import java_web.be.repositories.RoomAvailabilityRepository;
+import java_web.be.services.PaymentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Payment state lives in the database; the gateway is only reached through the outbox.
+ * Every transition is a compare-and-set on the current status, so a redelivered event or a
+ * race with another transition is a no-op rather than a double charge or double release.
+ */
+@Service
+@RequiredArgsConstructor
+public class PaymentServiceImpl implements PaymentService {
+
+    private final PaymentRepository paymentRepo;
+    private final BookingRepository bookingRepo;
+    private final OutboxEventRepository outboxRepo;
+    private final RoomAvailabilityRepository availabilityRepo;
+    private final ObjectMapper objectMapper;
+
+    // The payment row and its PAYMENT_CHARGE event commit together, so the charge is
+    // requested exactly when the payment exists.
+    @Override
+    @Transactional
+    public PaymentResponse startPayment(Long userId, Long bookingId, CreatePaymentRequest request) {
+        Booking booking = bookingRepo.findById(bookingId)
+                .orElseThrow(() -> new RuntimeException("Booking not found"));
+        if (!booking.getUser().getUserId().equals(userId)) {
+            throw new RuntimeException("Booking not found");
+        }
+        if (booking.getStatus() != BookingStatus.PENDING) {
+            throw new RuntimeException("Booking is not awaiting payment");
+        }
+        if (paymentRepo.existsByBookingBookingId(bookingId)) {
+            throw new RuntimeException("Payment already started for this booking");
+        }
+
+        Payment payment = paymentRepo.save(Payment.builder()
+                .booking(booking)
+                .amount(booking.getTotalPrice())
+                .method(request.getMethod())
+                .status(PaymentStatus.PENDING)
+                .build());
+
+        ChargeRequest charge = new ChargeRequest("charge-" + payment.getPaymentId(), payment.getPaymentId(),
+                bookingId, payment.getAmount(), payment.getMethod());
+        outboxRepo.save(OutboxEvent.builder()
+                .eventType(OutboxEventType.PAYMENT_CHARGE)
+                .aggregateId(payment.getPaymentId())
+                .payload(toJson(charge))
+                .status(OutboxStatus.PENDING)
+                .nextAttemptAt(Instant.now())
+                .build());
+
+        return toResponse(payment, bookingId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaymentResponse getPayment(Long userId, Long bookingId) {
+        Payment payment = paymentRepo.findByBookingBookingId(bookingId)
+                .orElseThrow(() -> new RuntimeException("Payment not found"));
+        if (!payment.getBooking().getUser().getUserId().equals(userId)) {
+            throw new RuntimeException("Payment not found");
+        }
+        return toResponse(payment, bookingId);
+    }
+
+    @Override
+    @Transactional
+    public void applyChargeResult(Long eventId, ChargeRequest request, ChargeResult result) {
+        Instant now = Instant.now();
+        if (result.approved()) {
+            if (paymentRepo.transition(request.paymentId(), PaymentStatus.PENDING, PaymentStatus.PAID,
+                    now, result.providerRef()) == 1
+                    && bookingRepo.transition(request.bookingId(), BookingStatus.PENDING, BookingStatus.CONFIRMED, now) == 0) {
+                // the hold expired (or was cancelled) while the charge was in flight: the room
+                // is gone, so the money goes back
+                RefundRequest refund = new RefundRequest("refund-" + request.paymentId(), request.paymentId(),
+                        result.providerRef(), request.amount());
+                outboxRepo.save(OutboxEvent.builder()
+                        .eventType(OutboxEventType.PAYMENT_REFUND)
+                        .aggregateId(request.paymentId())
+                        .payload(toJson(refund))
+                        .status(OutboxStatus.PENDING)
+                        .nextAttemptAt(now)
+                        .build());
+            }
+        } else {
+            failPayment(request, now);
+        }
+        outboxRepo.complete(eventId, OutboxStatus.SENT, now, result.reason());
+    }
+
+    @Override
+    @Transactional
+    public void abandonCharge(Long eventId, ChargeRequest request, String error) {
+        Instant now = Instant.now();
+        failPayment(request, now);
+        outboxRepo.complete(eventId, OutboxStatus.DEAD, now, error);
+    }
+
+    @Override
+    @Transactional
+    public void applyRefundResult(Long eventId, RefundRequest request, String refundRef) {
+        Instant now = Instant.now();
+        paymentRepo.markRefunded(request.paymentId());
+        outboxRepo.complete(eventId, OutboxStatus.SENT, now, "refundRef=" + refundRef);
+    }
+
+    private void failPayment(ChargeRequest request, Instant now) {
+        if (paymentRepo.transition(request.paymentId(), PaymentStatus.PENDING, PaymentStatus.FAILED, now, null) == 0) {
+            return;
+        }
+        if (bookingRepo.transition(request.bookingId(), BookingStatus.PENDING, BookingStatus.CANCELLED, now) == 1) {
+            Booking booking = bookingRepo.getReferenceById(request.bookingId());
+            availabilityRepo.releaseOne(booking.getRoomType().getRoomTypeId(), booking.getCheckIn(), booking.getCheckOut());
+        }
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new RuntimeException("Could not serialize payment event", ex);
+        }
+    }
+
+    private PaymentResponse toResponse(Payment payment, Long bookingId) {
+        return new PaymentResponse(payment.getPaymentId(), bookingId, payment.getAmount(), payment.getMethod(),
+                payment.getStatus(), payment.getPaidAt(), payment.getCreatedAt());
+    }
+}
@@ -0,0 +1,112 @@
+package java_web.be.services.impl;
+
+import java_web.be.cache.HotelCache;
+import java_web.be.cache.RoomTypeSnapshot;
+import java_web.be.dtos.request.QuoteRequest;
+import java_web.be.dtos.response.QuoteResponse;
+import java_web.be.pricing.PriceQuote;
+import java_web.be.pricing.PricingEngine;
+import java_web.be.repositories.RoomAvailabilityRepository;
+import java_web.be.repositories.RoomTypeRepository;
+import java_web.be.services.PricingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+public class PricingServiceImpl implements PricingService {
+
+    private final PricingEngine pricingEngine;
+    private final RoomAvailabilityRepository availabilityRepo;
+    private final RoomTypeRepository roomTypeRepo;
+    private final HotelCache hotelCache;
+
+    @Value("${app.booking.max-nights:30}")
+    private int maxNights;
+
+    // Room types come from the snapshot cache and every night of every room type from one
+    // availability query, so a page of hundreds of quotes costs a single round trip when warm.
+    @Override
+    @Transactional(readOnly = true)
+    public List<QuoteResponse> quote(QuoteRequest request) {
+        LocalDate checkIn = request.getCheckIn();
+        LocalDate checkOut = request.getCheckOut();
+        int nights = (int) ChronoUnit.DAYS.between(checkIn, checkOut);
+        if (nights <= 0) {
+            throw new RuntimeException("Check-out must be after check-in");
+        }
+        if (nights > maxNights) {
+            throw new RuntimeException("Stay cannot exceed " + maxNights + " nights");
+        }
+
+        Set<Long> ids = new LinkedHashSet<>(request.getRoomTypeIds());
+        Map<Long, int[]> availability = new HashMap<>(ids.size() * 2);
+        for (RoomAvailabilityRepository.NightAvailability n : availabilityRepo.findNights(ids, checkIn, checkOut)) {
+            availability.computeIfAbsent(n.getRoomTypeId(), id -> unknownNights(nights))
+                    [(int) ChronoUnit.DAYS.between(checkIn, n.getDate())] = n.getAvailableRooms();
+        }
+
+        List<QuoteResponse> quotes = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            int[] free = availability.get(id);
+            if (free == null || Arrays.stream(free).anyMatch(a -> a <= 0)) {
+                quotes.add(new QuoteResponse(id, false, null, null, null));
+                continue;
+            }
+            RoomTypeSnapshot roomType = snapshot(id);
+            if (roomType == null) {
+                quotes.add(new QuoteResponse(id, false, null, null, null));
+                continue;
+            }
+            PriceQuote q = pricingEngine.quote(toCents(roomType.basePrice()), roomType.totalRooms(), checkIn, nights, free);
+            List<BigDecimal> nightly = new ArrayList<>(nights);
+            for (long cents : q.nightlyCents()) {
+                nightly.add(BigDecimal.valueOf(cents, 2));
+            }
+            quotes.add(new QuoteResponse(id, true, nightly, BigDecimal.valueOf(q.discountCents(), 2),
+                    BigDecimal.valueOf(q.totalCents(), 2)));
+        }
+        return quotes;
+    }
+
+    // Called inside the booking transaction, before the room is taken, so the occupancy
+    // surcharge matches what a quote showed a moment earlier.
+    @Override
+    public BigDecimal priceStay(RoomTypeSnapshot roomType, LocalDate checkIn, LocalDate checkOut) {
+        int nights = (int) ChronoUnit.DAYS.between(checkIn, checkOut);
+        int[] free = unknownNights(nights);
+        for (RoomAvailabilityRepository.NightAvailability n
+                : availabilityRepo.findNights(List.of(roomType.roomTypeId()), checkIn, checkOut)) {
+            free[(int) ChronoUnit.DAYS.between(checkIn, n.getDate())] = n.getAvailableRooms();
+        }
+        PriceQuote q = pricingEngine.quote(toCents(roomType.basePrice()), roomType.totalRooms(), checkIn, nights, free);
+        return BigDecimal.valueOf(q.totalCents(), 2);
+    }
+
+    private RoomTypeSnapshot snapshot(Long id) {
+        try {
+            return hotelCache.getRoomType(id, key -> roomTypeRepo.findSnapshotById(key)
+                    .orElseThrow(() -> new RuntimeException("Room type not found")));
+        } catch (RuntimeException ex) {
+            return null;
+        }
+    }
+
+    private static int[] unknownNights(int nights) {
+        int[] free = new int[nights];
+        Arrays.fill(free, -1);
+        return free;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
@@ -0,0 +1,62 @@
+package java_web.be.services.impl;
+
+import jakarta.persistence.EntityManagerFactory;
+import java_web.be.dtos.request.FacilityRequest;
+import java_web.be.dtos.response.FacilityResponse;
+import java_web.be.model.*;
+import java_web.be.repositories.FacilityRepository;
+import java_web.be.services.ReferenceDataAdminService;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class ReferenceDataAdminServiceImpl implements ReferenceDataAdminService {
+
+    private final FacilityRepository facilityRepo;
+    private final EntityManagerFactory emf;
+
+    @Override
+    @Transactional
+    public FacilityResponse createFacility(FacilityRequest request) {
+        if (facilityRepo.existsByName(request.getName())) {
+            throw new RuntimeException("Facility already exists");
+        }
+        Facility facility = facilityRepo.save(Facility.builder().name(request.getName()).build());
+        return new FacilityResponse(facility.getFacilityId(), facility.getName());
+    }
+
+    @Override
+    @Transactional
+    public FacilityResponse renameFacility(Long facilityId, FacilityRequest request) {
+        Facility facility = facilityRepo.findById(facilityId)
+                .orElseThrow(() -> new RuntimeException("Facility not found"));
+        facility.setName(request.getName());
+        // entity region is updated by Hibernate on commit; cached facility queries are not keyed
+        // by facility, so drop them explicitly
+        secondLevelCache().evictDefaultQueryRegion();
+        return new FacilityResponse(facility.getFacilityId(), facility.getName());
+    }
+
+    // For changes made behind Hibernate's back (SQL scripts, bulk updates).
+    @Override
+    public void evictReferenceCaches() {
+        Cache cache = secondLevelCache();
+        cache.evictEntityData(Facility.class);
+        cache.evictEntityData(Role.class);
+        cache.evictEntityData(HotelImage.class);
+        cache.evictEntityData(RoomType.class);
+        cache.evictCollectionData(Hotel.class.getName() + ".images");
+        cache.evictCollectionData(Hotel.class.getName() + ".roomTypes");
+        cache.evictCollectionData(Hotel.class.getName() + ".facilities");
+        cache.evictCollectionData(User.class.getName() + ".roles");
+        cache.evictQueryRegions();
+    }
+
+    private Cache secondLevelCache() {
+        return emf.unwrap(SessionFactory.class).getCache();
+    }
+}
@@ -0,0 +1,73 @@
+package java_web.be.services.impl;
+
+import java_web.be.dtos.request.CreateReviewRequest;
+import java_web.be.dtos.response.ReviewResponse;
+import java_web.be.model.Booking;
+import java_web.be.model.Hotel;
+import java_web.be.model.Review;
+import java_web.be.model.enums.BookingStatus;
+import java_web.be.repositories.BookingRepository;
+import java_web.be.repositories.HotelRatingSummaryRepository;
+import java_web.be.repositories.ReviewRepository;
+import java_web.be.services.ReviewService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class ReviewServiceImpl implements ReviewService {
+
+    private final ReviewRepository reviewRepo;
+    private final BookingRepository bookingRepo;
+    private final HotelRatingSummaryRepository ratingSummaryRepo;
+
+    @Override
+    @Transactional
+    public ReviewResponse createReview(Long userId, CreateReviewRequest request) {
+        Booking booking = bookingRepo.findById(request.getBookingId())
+                .orElseThrow(() -> new RuntimeException("Booking not found"));
+        if (booking.getUser() == null || !booking.getUser().getUserId().equals(userId)) {
+            throw new RuntimeException("Booking does not belong to the current user");
+        }
+        if (booking.getStatus() != BookingStatus.CONFIRMED) {
+            throw new RuntimeException("Only confirmed bookings can be reviewed");
+        }
+        if (reviewRepo.existsByBookingBookingId(booking.getBookingId())) {
+            throw new RuntimeException("Booking already reviewed");
+        }
+
+        Hotel hotel = booking.getRoomType().getHotel();
+        Review review = Review.builder()
+                .booking(booking)
+                .user(booking.getUser())
+                .hotel(hotel)
+                .rating(request.getRating())
+                .comment(request.getComment())
+                .build();
+        review = reviewRepo.save(review);
+
+        // same transaction as the insert, so the summary never drifts from the reviews table
+        ratingSummaryRepo.applyDelta(hotel.getHotelId(), 1, review.getRating());
+
+        return new ReviewResponse(review.getReviewId(), hotel.getHotelId(), booking.getBookingId(),
+                review.getRating(), review.getComment(), review.getCreatedAt());
+    }
+
+    @Override
+    @Transactional
+    public void deleteReview(Long userId, Long reviewId) {
+        Review review = reviewRepo.findById(reviewId)
+                .orElseThrow(() -> new RuntimeException("Review not found"));
+        if (!review.getUser().getUserId().equals(userId)) {
+            throw new RuntimeException("Review does not belong to the current user");
+        }
+
+        Long hotelId = review.getHotel().getHotelId();
+        Integer rating = review.getRating();
+        reviewRepo.delete(review);
+        if (rating != null) {
+            ratingSummaryRepo.applyDelta(hotelId, -1, rating);
+        }
+    }
+}
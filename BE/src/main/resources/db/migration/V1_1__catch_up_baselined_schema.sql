@@ -0,0 +1,90 @@
+-- Databases baselined at V1 never ran V1's CREATE TABLEs. One last deployed from before the
+-- id_generators/outbox/rating-summary work (ddl-auto had nothing to create them from until
+-- those entities existed) lacks tables and columns that V2 and the application rely on.
+-- Every step is guarded, so this is a no-op on databases created from V1 and safe to re-run
+-- after a partial failure (MySQL DDL is not transactional; fix the cause, flyway repair, rerun).
+-- The tokens token_value -> token_hash conversion is V2's migrate_token_digests.
+
+CREATE TABLE IF NOT EXISTS id_generators (
+    gen_name VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (gen_name)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS hotel_rating_summaries (
+    hotel_id       BIGINT NOT NULL,
+    review_count   INT    NOT NULL,
+    rating_sum     BIGINT NOT NULL,
+    star1          INT    NOT NULL,
+    star2          INT    NOT NULL,
+    star3          INT    NOT NULL,
+    star4          INT    NOT NULL,
+    star5          INT    NOT NULL,
+    average_rating DECIMAL(3, 2),
+    PRIMARY KEY (hotel_id),
+    INDEX idx_rating_summary_avg (average_rating)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id              BIGINT       NOT NULL,
+    event_type      VARCHAR(32)  NOT NULL,
+    aggregate_id    BIGINT       NOT NULL,
+    payload         TEXT         NOT NULL,
+    status          VARCHAR(16)  NOT NULL,
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(512),
+    created_at      DATETIME(6),
+    sent_at         DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_outbox_due (status, next_attempt_at, id)
+) ENGINE = InnoDB;
+
+DELIMITER //
+
+CREATE PROCEDURE add_column_if_missing(IN tbl VARCHAR(64), IN col VARCHAR(64), IN definition VARCHAR(255))
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = DATABASE() AND table_name = tbl AND column_name = col) THEN
+        SET @ddl = CONCAT('ALTER TABLE `', tbl, '` ADD COLUMN `', col, '` ', definition);
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END //
+
+CREATE PROCEDURE add_index_if_missing(IN tbl VARCHAR(64), IN idx VARCHAR(64), IN cols VARCHAR(255))
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                   WHERE table_schema = DATABASE() AND table_name = tbl AND index_name = idx) THEN
+        SET @ddl = CONCAT('ALTER TABLE `', tbl, '` ADD INDEX `', idx, '` (', cols, ')');
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END //
+
+DELIMITER ;
+
+CALL add_column_if_missing('payments', 'provider_ref', 'VARCHAR(64) NULL');
+CALL add_column_if_missing('tokens', 'expires_at', 'DATETIME(6) NULL');
+
+-- indexes V1 has that V2 does not (re)create; V2 handles the composites it introduces
+CALL add_index_if_missing('hotels', 'idx_hotel_updated', 'updated_at');
+CALL add_index_if_missing('room_types', 'idx_roomtype_updated', 'updated_at');
+CALL add_index_if_missing('bookings', 'idx_booking_created', 'created_at');
+CALL add_index_if_missing('tokens', 'idx_token_expires', 'expires_at');
+
+DROP PROCEDURE add_column_if_missing;
+DROP PROCEDURE add_index_if_missing;
+
+-- Summaries were maintained incrementally only from the rating-summary change on; seed any
+-- hotel that has none so averages are not blank until RatingSummaryReconciliationJob runs.
+INSERT IGNORE INTO hotel_rating_summaries
+    (hotel_id, review_count, rating_sum, star1, star2, star3, star4, star5, average_rating)
+SELECT r.hotel_id, COUNT(*), SUM(r.rating),
+       SUM(r.rating = 1), SUM(r.rating = 2), SUM(r.rating = 3), SUM(r.rating = 4), SUM(r.rating = 5),
+       AVG(r.rating)
+FROM reviews r
+WHERE r.rating IS NOT NULL
+GROUP BY r.hotel_id;
@@ -0,0 +1,219 @@
+-- Schema as ddl-auto=update left it at the switch to Flyway. Databases built by ddl-auto are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and pick up from V2; new
+-- databases are created from here. Index changes go in later versions, not in this file.
+-- Enum columns are VARCHAR so new enum constants never need a migration.
+
+CREATE TABLE id_generators (
+    gen_name VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (gen_name)
+) ENGINE = InnoDB;
+
+CREATE TABLE roles (
+    role_id   BIGINT       NOT NULL,
+    role_name VARCHAR(100) NOT NULL,
+    PRIMARY KEY (role_id),
+    CONSTRAINT uk_roles_role_name UNIQUE (role_name)
+) ENGINE = InnoDB;
+
+CREATE TABLE users (
+    user_id       BIGINT       NOT NULL,
+    first_name    VARCHAR(255) NOT NULL,
+    last_name     VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) NOT NULL,
+    password_hash VARCHAR(255) NOT NULL,
+    phone_number  VARCHAR(20),
+    date_of_birth DATE,
+    gender        VARCHAR(16),
+    avatar_url    VARCHAR(255),
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    INDEX idx_user_email (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL,
+    role_id BIGINT NOT NULL,
+    PRIMARY KEY (user_id, role_id),
+    CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_user_roles_role FOREIGN KEY (role_id) REFERENCES roles (role_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE tokens (
+    id         BIGINT   NOT NULL,
+    token_hash CHAR(64) NOT NULL,
+    expired    BIT(1)   NOT NULL DEFAULT 0,
+    revoked    BIT(1)   NOT NULL DEFAULT 0,
+    user_id    BIGINT,
+    created_at DATETIME(6),
+    expires_at DATETIME(6),
+    revoked_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_tokens_token_hash UNIQUE (token_hash),
+    INDEX idx_token_user_revoked (user_id, revoked),
+    INDEX idx_token_expires (expires_at),
+    CONSTRAINT fk_tokens_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE hotels (
+    hotel_id    BIGINT       NOT NULL,
+    hotel_name  VARCHAR(255) NOT NULL,
+    address     LONGTEXT,
+    city        VARCHAR(100),
+    country     VARCHAR(100),
+    description LONGTEXT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    owner_id    BIGINT,
+    PRIMARY KEY (hotel_id),
+    INDEX idx_hotel_city (city),
+    INDEX idx_hotel_updated (updated_at),
+    CONSTRAINT fk_hotels_owner FOREIGN KEY (owner_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE hotel_images (
+    image_id  BIGINT       NOT NULL,
+    image_url VARCHAR(255) NOT NULL,
+    hotel_id  BIGINT       NOT NULL,
+    PRIMARY KEY (image_id),
+    CONSTRAINT fk_hotel_images_hotel FOREIGN KEY (hotel_id) REFERENCES hotels (hotel_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE facilities (
+    facility_id BIGINT       NOT NULL,
+    name        VARCHAR(255) NOT NULL,
+    PRIMARY KEY (facility_id),
+    CONSTRAINT uk_facilities_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE hotel_facilities (
+    hotel_id    BIGINT NOT NULL,
+    facility_id BIGINT NOT NULL,
+    PRIMARY KEY (hotel_id, facility_id),
+    CONSTRAINT fk_hotel_facilities_hotel FOREIGN KEY (hotel_id) REFERENCES hotels (hotel_id),
+    CONSTRAINT fk_hotel_facilities_facility FOREIGN KEY (facility_id) REFERENCES facilities (facility_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE room_types (
+    room_type_id BIGINT         NOT NULL,
+    hotel_id     BIGINT         NOT NULL,
+    type_name    VARCHAR(100)   NOT NULL,
+    base_price   DECIMAL(38, 2) NOT NULL,
+    capacity     INT            NOT NULL,
+    total_rooms  INT            NOT NULL,
+    description  LONGTEXT,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    PRIMARY KEY (room_type_id),
+    INDEX idx_roomtype_hotel (hotel_id),
+    INDEX idx_roomtype_updated (updated_at),
+    CONSTRAINT fk_room_types_hotel FOREIGN KEY (hotel_id) REFERENCES hotels (hotel_id)
+) ENGINE = InnoDB;
+
+-- AUTO_INCREMENT: rows are bulk-inserted over JDBC by AvailabilityCalendarJob
+CREATE TABLE room_availability (
+    availability_id BIGINT NOT NULL AUTO_INCREMENT,
+    room_type_id    BIGINT NOT NULL,
+    date            DATE   NOT NULL,
+    available_rooms INT    NOT NULL,
+    PRIMARY KEY (availability_id),
+    CONSTRAINT uk_availability_roomtype_date UNIQUE (room_type_id, date),
+    INDEX idx_availability_roomtype_date (room_type_id, date, available_rooms),
+    CONSTRAINT fk_availability_room_type FOREIGN KEY (room_type_id) REFERENCES room_types (room_type_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE bookings (
+    booking_id     BIGINT         NOT NULL,
+    user_id        BIGINT,
+    room_type_id   BIGINT         NOT NULL,
+    check_in       DATE           NOT NULL,
+    check_out      DATE           NOT NULL,
+    total_price    DECIMAL(38, 2) NOT NULL,
+    status         VARCHAR(16),
+    adults_count   INT,
+    children_count INT,
+    infants_count  INT,
+    created_at     DATETIME(6),
+    updated_at     DATETIME(6),
+    PRIMARY KEY (booking_id),
+    INDEX idx_booking_user_created (user_id, created_at, booking_id),
+    INDEX idx_booking_roomtype_created (room_type_id, created_at, booking_id),
+    INDEX idx_booking_created (created_at),
+    INDEX idx_booking_status_created (status, created_at),
+    CONSTRAINT fk_bookings_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_bookings_room_type FOREIGN KEY (room_type_id) REFERENCES room_types (room_type_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE payments (
+    payment_id   BIGINT         NOT NULL,
+    booking_id   BIGINT         NOT NULL,
+    amount       DECIMAL(38, 2) NOT NULL,
+    method       VARCHAR(16),
+    status       VARCHAR(16),
+    paid_at      DATETIME(6),
+    provider_ref VARCHAR(64),
+    created_at   DATETIME(6),
+    PRIMARY KEY (payment_id),
+    CONSTRAINT uk_payments_booking UNIQUE (booking_id),
+    CONSTRAINT fk_payments_booking FOREIGN KEY (booking_id) REFERENCES bookings (booking_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE reviews (
+    review_id  BIGINT NOT NULL,
+    booking_id BIGINT NOT NULL,
+    user_id    BIGINT NOT NULL,
+    hotel_id   BIGINT NOT NULL,
+    rating     INT,
+    comment    LONGTEXT,
+    created_at DATETIME(6),
+    PRIMARY KEY (review_id),
+    CONSTRAINT uk_reviews_booking UNIQUE (booking_id),
+    INDEX idx_review_hotel (hotel_id),
+    CONSTRAINT fk_reviews_booking FOREIGN KEY (booking_id) REFERENCES bookings (booking_id),
+    CONSTRAINT fk_reviews_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_reviews_hotel FOREIGN KEY (hotel_id) REFERENCES hotels (hotel_id),
+    CONSTRAINT chk_reviews_rating CHECK (rating BETWEEN 1 AND 5)
+) ENGINE = InnoDB;
+
+CREATE TABLE comments (
+    comment_id BIGINT   NOT NULL,
+    review_id  BIGINT   NOT NULL,
+    user_id    BIGINT   NOT NULL,
+    comment    LONGTEXT NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (comment_id),
+    INDEX idx_comment_review (review_id),
+    CONSTRAINT fk_comments_review FOREIGN KEY (review_id) REFERENCES reviews (review_id),
+    CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE hotel_rating_summaries (
+    hotel_id       BIGINT NOT NULL,
+    review_count   INT    NOT NULL,
+    rating_sum     BIGINT NOT NULL,
+    star1          INT    NOT NULL,
+    star2          INT    NOT NULL,
+    star3          INT    NOT NULL,
+    star4          INT    NOT NULL,
+    star5          INT    NOT NULL,
+    average_rating DECIMAL(3, 2),
+    PRIMARY KEY (hotel_id),
+    INDEX idx_rating_summary_avg (average_rating)
+) ENGINE = InnoDB;
+
+CREATE TABLE outbox_events (
+    id              BIGINT       NOT NULL,
+    event_type      VARCHAR(32)  NOT NULL,
+    aggregate_id    BIGINT       NOT NULL,
+    payload         TEXT         NOT NULL,
+    status          VARCHAR(16)  NOT NULL,
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(512),
+    created_at      DATETIME(6),
+    sent_at         DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_outbox_due (status, next_attempt_at, id)
+) ENGINE = InnoDB;
@@ -0,0 +1,105 @@
+-- Brings both fresh and baselined databases to the same indexes. Baselined databases may have
+-- been created by any earlier ddl-auto run, so every step checks information_schema first.
+-- Also folds in the former one-off scripts under db/upgrade (token digests, id_generators seed).
+
+DELIMITER //
+
+CREATE PROCEDURE add_index_if_missing(IN tbl VARCHAR(64), IN idx VARCHAR(64), IN cols VARCHAR(255))
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                   WHERE table_schema = DATABASE() AND table_name = tbl AND index_name = idx) THEN
+        SET @ddl = CONCAT('ALTER TABLE `', tbl, '` ADD INDEX `', idx, '` (', cols, ')');
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END //
+
+CREATE PROCEDURE drop_index_if_exists(IN tbl VARCHAR(64), IN idx VARCHAR(64))
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = tbl AND index_name = idx) THEN
+        SET @ddl = CONCAT('ALTER TABLE `', tbl, '` DROP INDEX `', idx, '`');
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END //
+
+-- Former db/upgrade/001: raw 512-char token_value -> SHA-256 hex digest (same hex as TokenDigest)
+CREATE PROCEDURE migrate_token_digests()
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'tokens' AND column_name = 'token_value') THEN
+        IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                       WHERE table_schema = DATABASE() AND table_name = 'tokens' AND column_name = 'token_hash') THEN
+            ALTER TABLE tokens ADD COLUMN token_hash CHAR(64) NULL;
+        END IF;
+        IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                       WHERE table_schema = DATABASE() AND table_name = 'tokens' AND column_name = 'expires_at') THEN
+            ALTER TABLE tokens ADD COLUMN expires_at DATETIME(6) NULL;
+        END IF;
+        UPDATE tokens SET token_hash = SHA2(token_value, 256) WHERE token_hash IS NULL;
+        ALTER TABLE tokens MODIFY token_hash CHAR(64) NOT NULL, DROP COLUMN token_value;
+        IF NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = 'tokens'
+                         AND column_name = 'token_hash' AND non_unique = 0) THEN
+            ALTER TABLE tokens ADD CONSTRAINT uk_tokens_token_hash UNIQUE (token_hash);
+        END IF;
+    END IF;
+END //
+
+DELIMITER ;
+
+CALL migrate_token_digests();
+
+-- Former db/upgrade/002. Hibernate's pooled optimizer hands out (next_val - 49 .. next_val)
+-- for the first block it reads, so each row is seeded at MAX(id) + 51 to stay clear of
+-- existing keys. GREATEST keeps rows that are already ahead.
+INSERT INTO id_generators (gen_name, next_val)
+SELECT 'roles', COALESCE(MAX(role_id), 0) + 51 FROM roles
+UNION ALL SELECT 'users', COALESCE(MAX(user_id), 0) + 51 FROM users
+UNION ALL SELECT 'reviews', COALESCE(MAX(review_id), 0) + 51 FROM reviews
+UNION ALL SELECT 'tokens', COALESCE(MAX(id), 0) + 51 FROM tokens
+UNION ALL SELECT 'payments', COALESCE(MAX(payment_id), 0) + 51 FROM payments
+UNION ALL SELECT 'hotel_images', COALESCE(MAX(image_id), 0) + 51 FROM hotel_images
+UNION ALL SELECT 'comments', COALESCE(MAX(comment_id), 0) + 51 FROM comments
+UNION ALL SELECT 'room_types', COALESCE(MAX(room_type_id), 0) + 51 FROM room_types
+UNION ALL SELECT 'hotels', COALESCE(MAX(hotel_id), 0) + 51 FROM hotels
+UNION ALL SELECT 'bookings', COALESCE(MAX(booking_id), 0) + 51 FROM bookings
+UNION ALL SELECT 'facilities', COALESCE(MAX(facility_id), 0) + 51 FROM facilities
+UNION ALL SELECT 'outbox_events', COALESCE(MAX(id), 0) + 51 FROM outbox_events
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+-- ddl-auto created @Enumerated(STRING) columns as MySQL ENUMs and never widened them, so
+-- PAYMENT_REFUND could not be stored on databases created before it existed.
+ALTER TABLE outbox_events
+    MODIFY event_type VARCHAR(32) NOT NULL,
+    MODIFY status VARCHAR(16) NOT NULL;
+ALTER TABLE bookings MODIFY status VARCHAR(16);
+ALTER TABLE payments
+    MODIFY method VARCHAR(16),
+    MODIFY status VARCHAR(16);
+ALTER TABLE users MODIFY gender VARCHAR(16);
+
+-- Access paths. Each composite replaces a single-column index on its leading column, which
+-- also keeps the foreign keys on hotel_id/user_id/room_type_id indexed.
+CALL add_index_if_missing('room_availability', 'idx_availability_roomtype_date', 'room_type_id, date, available_rooms');
+CALL add_index_if_missing('bookings', 'idx_booking_user_created', 'user_id, created_at, booking_id');
+CALL add_index_if_missing('bookings', 'idx_booking_roomtype_created', 'room_type_id, created_at, booking_id');
+CALL add_index_if_missing('bookings', 'idx_booking_status_created', 'status, created_at');
+CALL add_index_if_missing('tokens', 'idx_token_user_revoked', 'user_id, revoked');
+CALL add_index_if_missing('reviews', 'idx_review_hotel_created', 'hotel_id, created_at');
+CALL add_index_if_missing('hotels', 'idx_hotel_city_country', 'city, country');
+CALL add_index_if_missing('outbox_events', 'idx_outbox_due', 'status, next_attempt_at, id');
+
+CALL drop_index_if_exists('reviews', 'idx_review_hotel');
+CALL drop_index_if_exists('hotels', 'idx_hotel_city');
+CALL drop_index_if_exists('bookings', 'idx_booking_user');
+CALL drop_index_if_exists('bookings', 'idx_booking_roomtype');
+-- duplicate of the unique key on email
+CALL drop_index_if_exists('users', 'idx_user_email');
+
+DROP PROCEDURE migrate_token_digests;
+DROP PROCEDURE add_index_if_missing;
+DROP PROCEDURE drop_index_if_exists;
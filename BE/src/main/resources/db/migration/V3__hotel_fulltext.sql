@@ -0,0 +1,5 @@
+-- Keyword search (HotelRepository.searchKeyword). The MATCH column list has to be exactly
+-- this index's columns. The first FULLTEXT index on a table adds the hidden FTS_DOC_ID column
+-- and rebuilds it with writes blocked (reads continue), so deploy this outside peak hours.
+ALTER TABLE hotels
+    ADD FULLTEXT INDEX ft_hotel_search (hotel_name, city, address, description);
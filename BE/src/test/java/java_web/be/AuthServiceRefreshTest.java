@@ -0,0 +1,71 @@
+package java_web.be;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java_web.be.model.Token;
+import java_web.be.repositories.RoleRepository;
+import java_web.be.repositories.TokenRepository;
+import java_web.be.repositories.UserRepository;
+import java_web.be.security.JwtTokenProvider;
+import java_web.be.security.PasswordHasher;
+import java_web.be.security.RevokedTokenIndex;
+import java_web.be.security.TokenDigest;
+import java_web.be.services.impl.AuthServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// The revocation index lags other nodes by up to one sync, so young refresh tokens go to the table.
+class AuthServiceRefreshTest {
+
+    private static final String REFRESH_TOKEN = "refresh-token";
+    private static final long SYNC_MS = 30_000;
+
+    private final TokenRepository tokenRepo = mock(TokenRepository.class);
+    private final JwtTokenProvider jwtProvider = mock(JwtTokenProvider.class);
+    private final RevokedTokenIndex revokedTokens = mock(RevokedTokenIndex.class);
+    private AuthServiceImpl authService;
+
+    @BeforeEach
+    void setUp() {
+        authService = new AuthServiceImpl(mock(UserRepository.class), mock(RoleRepository.class), tokenRepo,
+                mock(PasswordHasher.class), jwtProvider, mock(TransactionTemplate.class), revokedTokens);
+        ReflectionTestUtils.setField(authService, "revocationSyncMs", SYNC_MS);
+    }
+
+    @Test
+    void youngTokenRevokedOnAnotherNodeIsRejected() {
+        issuedAgo(1_000);
+        when(tokenRepo.findByTokenHash(TokenDigest.sha256Hex(REFRESH_TOKEN)))
+                .thenReturn(Optional.of(Token.builder().revoked(true).build()));
+
+        assertThrows(RuntimeException.class, () -> authService.refresh(REFRESH_TOKEN));
+    }
+
+    @Test
+    void olderTokenIsCheckedAgainstTheIndexOnly() {
+        issuedAgo(SYNC_MS * 2);
+        when(revokedTokens.isRevoked(TokenDigest.sha256Hex(REFRESH_TOKEN))).thenReturn(true);
+
+        assertThrows(RuntimeException.class, () -> authService.refresh(REFRESH_TOKEN));
+        verify(tokenRepo, never()).findByTokenHash(any());
+    }
+
+    private void issuedAgo(long millis) {
+        Claims claims = Jwts.claims().setSubject("guest@example.com")
+                .setIssuedAt(new Date(System.currentTimeMillis() - millis));
+        when(jwtProvider.resolveClaims(REFRESH_TOKEN)).thenReturn(claims);
+        when(jwtProvider.isRefreshToken(claims)).thenReturn(true);
+    }
+}
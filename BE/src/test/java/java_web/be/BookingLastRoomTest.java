@@ -0,0 +1,131 @@
+package java_web.be;
+
+import java_web.be.dtos.request.CreateBookingRequest;
+import java_web.be.exceptions.TooManyRequestsException;
+import java_web.be.model.Hotel;
+import java_web.be.model.RoomType;
+import java_web.be.model.User;
+import java_web.be.repositories.HotelRepository;
+import java_web.be.repositories.RoomTypeRepository;
+import java_web.be.repositories.UserRepository;
+import java_web.be.services.BookingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// The in-process counterpart of loadtest/booking-last-room.js: many callers race for the last
+// room of one night, and exactly one of them may get it.
+@SpringBootTest
+class BookingLastRoomTest {
+
+    private static final int THREADS = 64;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private HotelRepository hotelRepo;
+
+    @Autowired
+    private RoomTypeRepository roomTypeRepo;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private TransactionTemplate txTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private final LocalDate checkIn = LocalDate.now().plusDays(10);
+    private Hotel hotel;
+    private RoomType roomType;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        hotel = txTemplate.execute(s -> hotelRepo.save(Hotel.builder().hotelName("Last room").city("Hue").build()));
+        roomType = txTemplate.execute(s -> roomTypeRepo.save(RoomType.builder().hotel(hotel).typeName("single")
+                .basePrice(new BigDecimal("100.00")).capacity(2).totalRooms(1).build()));
+        user = txTemplate.execute(s -> userRepo.save(User.builder().firstName("Last").lastName("Room")
+                .email("last-room-" + UUID.randomUUID() + "@example.com").passwordHash("x").build()));
+        // AvailabilityCalendarJob may already have written the night
+        jdbc.update("INSERT INTO room_availability (room_type_id, date, available_rooms) VALUES (?, ?, 1) "
+                + "ON DUPLICATE KEY UPDATE available_rooms = 1", roomType.getRoomTypeId(), checkIn);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.update("DELETE FROM bookings WHERE room_type_id = ?", roomType.getRoomTypeId());
+        jdbc.update("DELETE FROM room_availability WHERE room_type_id = ?", roomType.getRoomTypeId());
+        txTemplate.executeWithoutResult(s -> {
+            roomTypeRepo.deleteById(roomType.getRoomTypeId());
+            hotelRepo.deleteById(hotel.getHotelId());
+            userRepo.deleteById(user.getUserId());
+        });
+    }
+
+    @Test
+    void exactlyOneCallerGetsTheLastRoom() throws Exception {
+        CreateBookingRequest request = new CreateBookingRequest();
+        request.setRoomTypeId(roomType.getRoomTypeId());
+        request.setCheckIn(checkIn);
+        request.setCheckOut(checkIn.plusDays(1));
+
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+        AtomicInteger shed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> calls = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            calls.add(pool.submit(() -> {
+                start.await();
+                try {
+                    bookingService.createBooking(user.getUserId(), request);
+                    booked.incrementAndGet();
+                } catch (TooManyRequestsException ex) {
+                    shed.incrementAndGet();
+                } catch (RuntimeException ex) {
+                    soldOut.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        long started = System.nanoTime();
+        start.countDown();
+        for (Future<?> call : calls) {
+            call.get(60, TimeUnit.SECONDS);
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        pool.shutdown();
+        System.out.printf("%d callers: %d booked, %d sold out, %d shed, %d ms%n",
+                THREADS, booked.get(), soldOut.get(), shed.get(), elapsedMs);
+
+        assertEquals(1, booked.get());
+        assertEquals(THREADS - 1, soldOut.get() + shed.get());
+        assertEquals(1, jdbc.queryForObject("SELECT COUNT(*) FROM bookings WHERE room_type_id = ? AND status = 'PENDING'",
+                Integer.class, roomType.getRoomTypeId()));
+        assertEquals(0, jdbc.queryForObject("SELECT available_rooms FROM room_availability WHERE room_type_id = ? AND date = ?",
+                Integer.class, roomType.getRoomTypeId(), checkIn));
+    }
+}
@@ -0,0 +1,148 @@
+package java_web.be;
+
+import java_web.be.security.TokenDigest;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Migrates a scratch schema shaped like the first commit's ddl-auto output (the oldest
+ * database that gets baselined at V1) and checks it ends up with the current tables,
+ * columns and indexes, with its data carried over.
+ */
+@SpringBootTest
+class FlywayUpgradeTest {
+
+    private static final String SCHEMA = "flyway_upgrade_test";
+    private static final String LEGACY_TOKEN = "legacy-refresh-token";
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate admin;
+    private Connection connection;
+    private String originalCatalog;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        admin = new JdbcTemplate(dataSource);
+        admin.execute("DROP DATABASE IF EXISTS " + SCHEMA);
+        admin.execute("CREATE DATABASE " + SCHEMA);
+        connection = dataSource.getConnection();
+        originalCatalog = connection.getCatalog();
+        connection.setCatalog(SCHEMA);
+        jdbc = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        // the pool does not reset the catalog, so the next borrower would find the dropped schema
+        connection.setCatalog(originalCatalog);
+        connection.close();
+        admin.execute("DROP DATABASE IF EXISTS " + SCHEMA);
+    }
+
+    @Test
+    void baselineCommitSchemaMigratesToCurrent() throws Exception {
+        ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/legacy/baseline_schema.sql"));
+        seedLegacyRows();
+
+        migrate();
+
+        assertEquals(TokenDigest.sha256Hex(LEGACY_TOKEN),
+                jdbc.queryForObject("SELECT token_hash FROM tokens", String.class));
+        assertFalse(columnExists("tokens", "token_value"));
+        assertTrue(columnExists("tokens", "expires_at"));
+        assertTrue(columnExists("payments", "provider_ref"));
+        assertEquals("varchar", dataType("bookings", "status"));
+        assertEquals("varchar", dataType("payments", "method"));
+
+        assertEquals(4, jdbc.queryForObject(
+                "SELECT average_rating FROM hotel_rating_summaries WHERE hotel_id = 1", Integer.class));
+        assertEquals(7 + 51, jdbc.queryForObject(
+                "SELECT next_val FROM id_generators WHERE gen_name = 'bookings'", Long.class));
+        jdbc.update("""
+                INSERT INTO outbox_events (id, event_type, aggregate_id, payload, status, attempts, next_attempt_at)
+                VALUES (1, 'PAYMENT_REFUND', 1, '{}', 'PENDING', 0, NOW(6))
+                """);
+
+        for (String index : List.of("idx_booking_user_created", "idx_booking_roomtype_created",
+                "idx_booking_status_created", "idx_booking_created", "idx_review_hotel_created",
+                "idx_hotel_city_country", "idx_hotel_updated", "idx_token_user_revoked", "idx_token_expires",
+                "idx_availability_roomtype_date", "idx_outbox_due", "ft_hotel_search")) {
+            assertTrue(indexExists(index), index);
+        }
+        for (String index : List.of("idx_booking_user", "idx_booking_roomtype", "idx_review_hotel", "idx_user_email")) {
+            assertFalse(indexExists(index), index);
+        }
+
+        // a second start finds nothing left to do
+        assertEquals(0, flyway().info().pending().length);
+    }
+
+    @Test
+    void freshSchemaMigratesFromV1() {
+        migrate();
+
+        assertTrue(indexExists("idx_hotel_city_country"));
+        assertEquals(0, flyway().info().pending().length);
+    }
+
+    private void seedLegacyRows() {
+        jdbc.update("INSERT INTO users (user_id, first_name, last_name, email, password_hash, gender) " +
+                "VALUES (1, 'Legacy', 'User', 'legacy@example.com', 'x', 'MALE')");
+        jdbc.update("INSERT INTO hotels (hotel_id, hotel_name, city, country) VALUES (1, 'Legacy Hotel', 'Hue', 'Vietnam')");
+        jdbc.update("INSERT INTO room_types (room_type_id, hotel_id, type_name, base_price, capacity, total_rooms) " +
+                "VALUES (1, 1, 'Double', 100.00, 2, 5)");
+        jdbc.update("INSERT INTO bookings (booking_id, user_id, room_type_id, check_in, check_out, total_price, status) " +
+                "VALUES (7, 1, 1, '2025-01-01', '2025-01-03', 200.00, 'CONFIRMED')");
+        jdbc.update("INSERT INTO payments (payment_id, booking_id, amount, method, status) VALUES (1, 7, 200.00, 'CARD', 'PAID')");
+        jdbc.update("INSERT INTO reviews (review_id, booking_id, user_id, hotel_id, rating) VALUES (1, 7, 1, 1, 4)");
+        jdbc.update("INSERT INTO tokens (id, token_value, expired, revoked, user_id) VALUES (1, ?, 0, 0, 1)", LEGACY_TOKEN);
+    }
+
+    private void migrate() {
+        flyway().migrate();
+    }
+
+    private Flyway flyway() {
+        return Flyway.configure()
+                .dataSource(new SingleConnectionDataSource(connection, true))
+                .schemas(SCHEMA)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load();
+    }
+
+    private boolean columnExists(String table, String column) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM information_schema.columns " +
+                "WHERE table_schema = ? AND table_name = ? AND column_name = ?", Integer.class, SCHEMA, table, column) > 0;
+    }
+
+    private String dataType(String table, String column) {
+        return jdbc.queryForObject("SELECT data_type FROM information_schema.columns " +
+                "WHERE table_schema = ? AND table_name = ? AND column_name = ?", String.class, SCHEMA, table, column);
+    }
+
+    private boolean indexExists(String index) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = ? AND index_name = ?", Integer.class, SCHEMA, index) > 0;
+    }
+}
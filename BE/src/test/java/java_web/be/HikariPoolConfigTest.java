@@ -0,0 +1,34 @@
+package java_web.be;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java_web.be.config.HikariPoolConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// A pool sized under its own prefix keeps that size; the other pool is still sized from cores.
+class HikariPoolConfigTest {
+
+    @Test
+    void explicitReplicaSizeIsKept() {
+        MockEnvironment env = new MockEnvironment()
+                .withProperty("app.datasource.pool.db-cores", "4")
+                .withProperty("app.datasource.replica.hikari.maximum-pool-size", "3")
+                .withProperty("app.datasource.replica.hikari.minimum-idle", "1");
+        BeanPostProcessor sizer = HikariPoolConfig.hikariPoolSizer(env);
+
+        HikariDataSource primary = new HikariDataSource();
+        HikariDataSource replica = new HikariDataSource();
+        replica.setMaximumPoolSize(3);
+        replica.setMinimumIdle(1);
+        sizer.postProcessBeforeInitialization(primary, "primaryDataSource");
+        sizer.postProcessBeforeInitialization(replica, "replicaDataSource");
+
+        assertEquals(9, primary.getMaximumPoolSize());
+        assertEquals(9, primary.getMinimumIdle());
+        assertEquals(3, replica.getMaximumPoolSize());
+        assertEquals(1, replica.getMinimumIdle());
+    }
+}
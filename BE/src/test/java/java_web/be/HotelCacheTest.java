@@ -0,0 +1,74 @@
+package java_web.be;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java_web.be.cache.HotelCache;
+import java_web.be.cache.RoomTypeSnapshot;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// A reload that raced replication must not be served for the whole TTL.
+class HotelCacheTest {
+
+    private static final Long ROOM_TYPE_ID = 1L;
+
+    @Test
+    void invalidationIsRepeatedAfterTheReplicaLagBound() throws Exception {
+        HotelCache cache = newCache(true);
+
+        cache.getRoomType(ROOM_TYPE_ID, id -> snapshot("100.00"));
+        cache.invalidateRoomType(ROOM_TYPE_ID, null);
+        // the replica has not applied the price change yet
+        assertEquals(new BigDecimal("100.00"), cache.getRoomType(ROOM_TYPE_ID, id -> snapshot("100.00")).basePrice());
+
+        BigDecimal price = null;
+        for (int i = 0; i < 100 && !new BigDecimal("120.00").equals(price); i++) {
+            Thread.sleep(20);
+            price = cache.getRoomType(ROOM_TYPE_ID, id -> snapshot("120.00")).basePrice();
+        }
+        assertEquals(new BigDecimal("120.00"), price);
+    }
+
+    @Test
+    void withoutReplicaEntriesLiveUntilInvalidated() throws Exception {
+        HotelCache cache = newCache(false);
+
+        cache.invalidateRoomType(ROOM_TYPE_ID, null);
+        cache.getRoomType(ROOM_TYPE_ID, id -> snapshot("100.00"));
+        Thread.sleep(300);
+
+        assertEquals(new BigDecimal("100.00"), cache.getRoomType(ROOM_TYPE_ID, id -> snapshot("120.00")).basePrice());
+    }
+
+    @Test
+    void loaderErrorDoesNotLeaveTheKeyStuck() {
+        HotelCache cache = newCache(false);
+
+        assertThrows(AssertionError.class, () -> cache.getRoomType(ROOM_TYPE_ID, id -> {
+            throw new AssertionError("loader bug");
+        }));
+
+        assertEquals(new BigDecimal("100.00"), cache.getRoomType(ROOM_TYPE_ID, id -> snapshot("100.00")).basePrice());
+    }
+
+    private static HotelCache newCache(boolean replicaEnabled) {
+        HotelCache cache = new HotelCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "hotelDetailMaxSize", 100L);
+        ReflectionTestUtils.setField(cache, "hotelDetailTtlSeconds", 300L);
+        ReflectionTestUtils.setField(cache, "roomTypeMaxSize", 100L);
+        ReflectionTestUtils.setField(cache, "roomTypeTtlSeconds", 600L);
+        ReflectionTestUtils.setField(cache, "replicaEnabled", replicaEnabled);
+        ReflectionTestUtils.setField(cache, "replicaMaxLagSeconds", 0L);
+        ReflectionTestUtils.setField(cache, "replicaLagCheckMs", 100L);
+        cache.init();
+        return cache;
+    }
+
+    private static RoomTypeSnapshot snapshot(String basePrice) {
+        return new RoomTypeSnapshot(ROOM_TYPE_ID, 10L, new BigDecimal(basePrice), 2, 5);
+    }
+}
@@ -0,0 +1,66 @@
+package java_web.be;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java_web.be.dtos.response.HotelDetailResponse;
+import java_web.be.model.Facility;
+import java_web.be.model.Hotel;
+import java_web.be.model.HotelImage;
+import java_web.be.model.RoomType;
+import java_web.be.services.HotelDetailService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class HotelDetailQueryCountTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private HotelDetailService hotelDetailService;
+
+    @Test
+    void hotelDetailUsesFixedNumberOfQueries() {
+        Hotel hotel = Hotel.builder().hotelName("Query count").city("Hanoi")
+                .images(new HashSet<>()).roomTypes(new HashSet<>()).facilities(new HashSet<>())
+                .build();
+        for (int i = 0; i < 5; i++) {
+            hotel.getImages().add(HotelImage.builder().hotel(hotel).imageUrl("img-" + i).build());
+            hotel.getRoomTypes().add(RoomType.builder().hotel(hotel).typeName("type-" + i)
+                    .basePrice(BigDecimal.valueOf(100 + i)).capacity(2).totalRooms(3).build());
+            Facility facility = Facility.builder().name("facility-" + UUID.randomUUID()).build();
+            em.persist(facility);
+            hotel.getFacilities().add(facility);
+        }
+        em.persist(hotel);
+        em.flush();
+        em.clear();
+
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        HotelDetailResponse detail = hotelDetailService.loadHotelDetail(hotel.getHotelId());
+
+        assertEquals(5, detail.getImages().size());
+        assertEquals(5, detail.getFacilities().size());
+        assertEquals(5, detail.getRoomTypes().size());
+        // four on a cold cache; fewer once the facility/room-type query cache is warm
+        assertTrue(stats.getPrepareStatementCount() <= 4);
+    }
+}
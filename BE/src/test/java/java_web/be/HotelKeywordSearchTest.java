@@ -0,0 +1,62 @@
+package java_web.be;
+
+import java_web.be.dtos.request.KeywordSearchRequest;
+import java_web.be.dtos.response.HotelSearchItem;
+import java_web.be.model.Hotel;
+import java_web.be.repositories.HotelRepository;
+import java_web.be.services.HotelSearchService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Rows are committed, not rolled back: InnoDB only adds them to a FULLTEXT index at commit.
+@SpringBootTest
+class HotelKeywordSearchTest {
+
+    @Autowired
+    private HotelSearchService hotelSearchService;
+
+    @Autowired
+    private HotelRepository hotelRepo;
+
+    @Autowired
+    private TransactionTemplate txTemplate;
+
+    private Hotel hotel;
+
+    @BeforeEach
+    void setUp() {
+        hotel = txTemplate.execute(s -> hotelRepo.save(Hotel.builder()
+                .hotelName("Quyzzle Beach Inn").city("Da Nang").country("Vietnam")
+                .description("Rooms facing the sea").build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        txTemplate.executeWithoutResult(s -> hotelRepo.deleteById(hotel.getHotelId()));
+    }
+
+    @Test
+    void wordsBelowTheMinTokenSizeDoNotExcludeMatches() {
+        // "da" is shorter than innodb_ft_min_token_size, so it is not in the index
+        assertEquals(List.of(hotel.getHotelId()), search("quyzzle da nang"));
+    }
+
+    @Test
+    void stopwordsDoNotExcludeMatches() {
+        assertEquals(List.of(hotel.getHotelId()), search("Quyzzle in Da Nang"));
+    }
+
+    private List<Long> search(String q) {
+        KeywordSearchRequest request = new KeywordSearchRequest();
+        request.setQ(q);
+        return hotelSearchService.searchKeyword(request).stream().map(HotelSearchItem::getHotelId).toList();
+    }
+}
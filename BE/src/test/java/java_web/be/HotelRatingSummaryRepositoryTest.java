@@ -0,0 +1,47 @@
+package java_web.be;
+
+import java_web.be.model.HotelRatingSummary;
+import java_web.be.repositories.HotelRatingSummaryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Removing a review from a hotel with no summary row must not leave negative counts behind.
+@SpringBootTest
+class HotelRatingSummaryRepositoryTest {
+
+    private static final long HOTEL_ID = 900_000_002L;
+
+    @Autowired
+    private HotelRatingSummaryRepository ratingSummaryRepo;
+
+    @Autowired
+    private TransactionTemplate txTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        txTemplate.executeWithoutResult(s -> ratingSummaryRepo.deleteById(HOTEL_ID));
+    }
+
+    @Test
+    void removalWithoutARowInsertsAnEmptySummary() {
+        txTemplate.executeWithoutResult(s -> ratingSummaryRepo.applyDelta(HOTEL_ID, -1, 4));
+        HotelRatingSummary empty = ratingSummaryRepo.findById(HOTEL_ID).orElseThrow();
+        assertEquals(0, empty.getReviewCount());
+        assertEquals(0, empty.getRatingSum());
+        assertEquals(0, empty.getStar4());
+        assertEquals(0, empty.getAverageRating().compareTo(BigDecimal.ZERO));
+
+        txTemplate.executeWithoutResult(s -> ratingSummaryRepo.applyDelta(HOTEL_ID, 1, 4));
+        HotelRatingSummary one = ratingSummaryRepo.findById(HOTEL_ID).orElseThrow();
+        assertEquals(1, one.getReviewCount());
+        assertEquals(1, one.getStar4());
+        assertEquals(0, one.getAverageRating().compareTo(new BigDecimal("4")));
+    }
+}
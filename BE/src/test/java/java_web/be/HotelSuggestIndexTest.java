@@ -0,0 +1,86 @@
+package java_web.be;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java_web.be.cache.HotelSuggestIndex;
+import java_web.be.cache.HotelSuggestIndex.HotelEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HotelSuggestIndexTest {
+
+    private HotelSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new HotelSuggestIndex(new SimpleMeterRegistry());
+        index.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    @Test
+    void matchesWordPrefixesIgnoringCaseAndAccents() {
+        index.upsert(1L, "Hanoi Sheraton", "Hà Nội", "Vietnam");
+        index.upsert(2L, "Sofitel Legend", "Hà Nội", "Vietnam");
+        index.upsert(3L, "Beach Inn", "Đà Nẵng", "Vietnam");
+
+        assertEquals(List.of(1L), hotelIds("SHER"));
+        assertEquals(2, index.suggestCities("ha no", 10).get(0).hotelCount());
+        assertEquals("Đà Nẵng", index.suggestCities("da", 10).get(0).city());
+
+        index.upsert(1L, "Hanoi Sheraton", "Đà Nẵng", "Vietnam");
+        index.remove(2L);
+        assertTrue(index.suggestCities("ha", 10).isEmpty());
+        assertEquals(2, index.suggestCities("da", 10).get(0).hotelCount());
+    }
+
+    @Test
+    void writesDuringRebuildAreReplayedOntoTheNewIndex() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        index.rebuildAsync(afterId -> {
+            if (afterId > 0) {
+                return List.of();
+            }
+            loading.countDown();
+            await(release);
+            return List.of(new HotelEntry(1L, "Old Name", "Hue", "Vietnam"),
+                    new HotelEntry(2L, "Gone Hotel", "Hue", "Vietnam"));
+        });
+
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        index.upsert(1L, "New Name", "Hue", "Vietnam");
+        index.remove(2L);
+        release.countDown();
+
+        for (int i = 0; i < 250 && index.isRebuilding(); i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(List.of(1L), hotelIds("new"));
+        assertTrue(hotelIds("old").isEmpty());
+        assertTrue(hotelIds("gone").isEmpty());
+    }
+
+    private List<Long> hotelIds(String prefix) {
+        return index.suggestHotels(prefix, 10).stream().map(HotelEntry::hotelId).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
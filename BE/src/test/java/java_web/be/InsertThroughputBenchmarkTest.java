@@ -0,0 +1,133 @@
+package java_web.be;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java_web.bench.BenchRow;
+import java_web.bench.IdentityBenchRow;
+import java_web.bench.PooledBenchRow;
+import java_web.bench.TimeOrderedBenchRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Inserts the same row shape into the same table (bench_inserts) under three id strategies:
+ * IDENTITY, the pooled id_generators table generator and @TimeOrderedId. The rows are mapped in
+ * a persistence unit of their own (java_web.bench), built on the application's DataSource with
+ * its dialect and JDBC batch size, so the application's EntityManagerFactory never sees them. Each round
+ * commits its own transaction, and the strategies take turns within a round so drift hits
+ * them equally. Needs the database from application.properties; run with
+ * ./gradlew benchmarkTest and copy the printed rows into src/jmh/BASELINE.md.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class InsertThroughputBenchmarkTest {
+
+    private static final int ROWS = 5_000;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 5;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.dialect}")
+    private String dialect;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    private EntityManagerFactory benchEmf;
+
+    @BeforeEach
+    void createTable() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_inserts");
+        jdbcTemplate.execute("""
+                CREATE TABLE bench_inserts (
+                    id         BIGINT      NOT NULL AUTO_INCREMENT PRIMARY KEY,
+                    payload    VARCHAR(64) NOT NULL,
+                    amount     INT         NOT NULL,
+                    created_at DATETIME(6) NOT NULL
+                ) ENGINE = InnoDB
+                """);
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("java_web.bench");
+        factory.setPersistenceUnitName("bench");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.dialect", dialect,
+                "hibernate.jdbc.batch_size", batchSize,
+                "hibernate.order_inserts", true));
+        factory.afterPropertiesSet();
+        benchEmf = factory.getObject();
+    }
+
+    @AfterEach
+    void dropTable() {
+        benchEmf.close();
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_inserts");
+        jdbcTemplate.update("DELETE FROM id_generators WHERE gen_name = 'bench_inserts'");
+    }
+
+    @Test
+    void identityVersusPooledVersusTimeOrderedInserts() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, IntFunction<BenchRow>> strategies = new LinkedHashMap<>();
+        strategies.put("IDENTITY", i -> new IdentityBenchRow("row-" + i, i, now));
+        strategies.put("pooled table generator", i -> new PooledBenchRow("row-" + i, i, now));
+        strategies.put("time-ordered id", i -> new TimeOrderedBenchRow("row-" + i, i, now));
+
+        Map<String, double[]> rowsPerSecond = new LinkedHashMap<>();
+        strategies.keySet().forEach(name -> rowsPerSecond.put(name, new double[MEASURED_ROUNDS]));
+
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            for (Map.Entry<String, IntFunction<BenchRow>> strategy : strategies.entrySet()) {
+                jdbcTemplate.execute("TRUNCATE TABLE bench_inserts");
+                long nanos = time(strategy.getValue());
+                assertEquals(ROWS, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bench_inserts", Integer.class));
+                if (round >= WARMUP_ROUNDS) {
+                    rowsPerSecond.get(strategy.getKey())[round - WARMUP_ROUNDS] = ROWS / (nanos / 1e9);
+                }
+            }
+        }
+
+        // min, median and max of the measured rounds, laid out like the table in BASELINE.md
+        rowsPerSecond.forEach((name, samples) -> {
+            Arrays.sort(samples);
+            System.out.printf("| %s | %,d | %,.0f | %,.0f | %,.0f |%n", name, ROWS,
+                    samples[0], samples[MEASURED_ROUNDS / 2], samples[MEASURED_ROUNDS - 1]);
+        });
+    }
+
+    private long time(IntFunction<BenchRow> rows) {
+        long t0 = System.nanoTime();
+        try (EntityManager em = benchEmf.createEntityManager()) {
+            em.getTransaction().begin();
+            for (int i = 0; i < ROWS; i++) {
+                em.persist(rows.apply(i));
+            }
+            em.getTransaction().commit();
+        }
+        return System.nanoTime() - t0;
+    }
+}
@@ -0,0 +1,150 @@
+package java_web.be;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java_web.be.gateway.ChargeRequest;
+import java_web.be.gateway.ChargeResult;
+import java_web.be.gateway.PaymentGateway;
+import java_web.be.gateway.StubPaymentGateway;
+import java_web.be.jobs.OutboxDispatcherJob;
+import java_web.be.model.OutboxEvent;
+import java_web.be.model.enums.OutboxEventType;
+import java_web.be.model.enums.OutboxStatus;
+import java_web.be.model.enums.PaymentMethod;
+import java_web.be.repositories.OutboxEventRepository;
+import java_web.be.services.PaymentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// The gateway's answer and the write that records it fail independently; only the first is retried.
+class OutboxDispatcherJobTest {
+
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final OutboxEventRepository outboxRepo = mock(OutboxEventRepository.class);
+    private final PaymentService paymentService = mock(PaymentService.class);
+    private PaymentGateway gateway = mock(PaymentGateway.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ChargeRequest request =
+            new ChargeRequest("charge-1", 1L, 7L, new BigDecimal("200.00"), PaymentMethod.CARD);
+    private OutboxDispatcherJob job;
+
+    @BeforeEach
+    void setUp() {
+        newJob();
+    }
+
+    private void newJob() {
+        job = new OutboxDispatcherJob(outboxRepo, paymentService, gateway,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), objectMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(job, "batchSize", 100);
+        ReflectionTestUtils.setField(job, "concurrency", 1);
+        ReflectionTestUtils.setField(job, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(job, "backoffMs", 10L);
+        job.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        job.shutdown();
+    }
+
+    @Test
+    void approvedChargeThatFailsToRecordKeepsTheLease() throws Exception {
+        claim(MAX_ATTEMPTS);
+        when(gateway.charge(request)).thenReturn(ChargeResult.approved("ref-1"));
+        doThrow(new DataAccessResourceFailureException("connection reset"))
+                .when(paymentService).applyChargeResult(eq(1L), eq(request), any());
+
+        job.dispatch();
+
+        verify(paymentService, never()).abandonCharge(any(), any(), any());
+        verify(outboxRepo, never()).reschedule(any(), any(), any());
+        verify(outboxRepo, never()).complete(any(), any(), any(), any());
+    }
+
+    @Test
+    void gatewayFailureIsRescheduledUntilMaxAttempts() throws Exception {
+        claim(1);
+        when(gateway.charge(request)).thenThrow(new IllegalStateException("gateway timeout"));
+
+        job.dispatch();
+
+        verify(outboxRepo).reschedule(eq(1L), any(), eq("gateway timeout"));
+        verify(paymentService, never()).applyChargeResult(any(), any(), any());
+        verify(paymentService, never()).abandonCharge(any(), any(), any());
+    }
+
+    @Test
+    void gatewayFailureAtMaxAttemptsAbandonsTheCharge() throws Exception {
+        claim(MAX_ATTEMPTS);
+        when(gateway.charge(request)).thenThrow(new IllegalStateException("gateway timeout"));
+        when(gateway.findCharge("charge-1")).thenReturn(Optional.empty());
+
+        job.dispatch();
+
+        verify(paymentService).abandonCharge(1L, request, "gateway timeout");
+        verify(outboxRepo, never()).reschedule(any(), any(), anyString());
+    }
+
+    @Test
+    void chargeTakenBeforeTheGatewayFailedIsRecordedNotAbandoned() throws Exception {
+        job.shutdown();
+        gateway = new StubPaymentGateway() {
+            @Override
+            public ChargeResult charge(ChargeRequest request) {
+                super.charge(request);
+                throw new IllegalStateException("read timed out");
+            }
+        };
+        newJob();
+        claim(MAX_ATTEMPTS);
+
+        job.dispatch();
+
+        verify(paymentService, never()).abandonCharge(any(), any(), any());
+        verify(paymentService).applyChargeResult(eq(1L), eq(request),
+                argThat(result -> result.approved() && result.providerRef().startsWith("stub-")));
+    }
+
+    @Test
+    void failedLookupAtMaxAttemptsKeepsRetrying() throws Exception {
+        claim(MAX_ATTEMPTS);
+        when(gateway.charge(request)).thenThrow(new IllegalStateException("gateway timeout"));
+        when(gateway.findCharge("charge-1")).thenThrow(new IllegalStateException("provider down"));
+
+        job.dispatch();
+
+        verify(outboxRepo).reschedule(eq(1L), any(), eq("provider down"));
+        verify(paymentService, never()).abandonCharge(any(), any(), any());
+        verify(paymentService, never()).applyChargeResult(any(), any(), any());
+    }
+
+    private void claim(int attempts) throws Exception {
+        OutboxEvent event = OutboxEvent.builder().id(1L).eventType(OutboxEventType.PAYMENT_CHARGE)
+                .aggregateId(1L).payload(objectMapper.writeValueAsString(request))
+                .status(OutboxStatus.PENDING).attempts(attempts).build();
+        when(outboxRepo.lockDueIds(any(), anyInt())).thenReturn(List.of(1L));
+        when(outboxRepo.findAllById(List.of(1L))).thenReturn(List.of(event));
+    }
+}
@@ -0,0 +1,84 @@
+package java_web.be;
+
+import jakarta.persistence.EntityManagerFactory;
+import java_web.be.model.Facility;
+import java_web.be.model.Role;
+import java_web.be.repositories.FacilityRepository;
+import java_web.be.repositories.HotelRatingSummaryRepository;
+import java_web.be.repositories.RoleRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// A review write runs the native rating-summary upsert; it must not flush the reference-data caches.
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class RatingSummaryCacheEvictionTest {
+
+    private static final long HOTEL_ID = 900_000_001L;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private TransactionTemplate txTemplate;
+
+    @Autowired
+    private RoleRepository roleRepo;
+
+    @Autowired
+    private FacilityRepository facilityRepo;
+
+    @Autowired
+    private HotelRatingSummaryRepository ratingSummaryRepo;
+
+    private Role role;
+    private Facility facility;
+
+    @AfterEach
+    void cleanUp() {
+        txTemplate.executeWithoutResult(status -> {
+            ratingSummaryRepo.deleteById(HOTEL_ID);
+            if (role != null) {
+                roleRepo.deleteById(role.getRoleId());
+            }
+            if (facility != null) {
+                facilityRepo.deleteById(facility.getFacilityId());
+            }
+        });
+    }
+
+    @Test
+    void ratingUpsertKeepsReferenceRegionsAndQueries() {
+        String roleName = "ROLE_CACHE_" + UUID.randomUUID();
+        role = txTemplate.execute(s -> roleRepo.save(Role.builder().roleName(roleName).build()));
+        facility = txTemplate.execute(s -> facilityRepo.save(Facility.builder().name("cache-" + UUID.randomUUID()).build()));
+
+        // warm the entity regions and the findByRoleName query cache
+        txTemplate.executeWithoutResult(s -> {
+            roleRepo.findById(role.getRoleId());
+            facilityRepo.findById(facility.getFacilityId());
+            roleRepo.findByRoleName(roleName);
+        });
+        assertTrue(emf.getCache().contains(Role.class, role.getRoleId()));
+        assertTrue(emf.getCache().contains(Facility.class, facility.getFacilityId()));
+
+        txTemplate.executeWithoutResult(s -> ratingSummaryRepo.applyDelta(HOTEL_ID, 1, 5));
+
+        assertTrue(emf.getCache().contains(Role.class, role.getRoleId()));
+        assertTrue(emf.getCache().contains(Facility.class, facility.getFacilityId()));
+
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        long hits = stats.getQueryCacheHitCount();
+        txTemplate.executeWithoutResult(s -> roleRepo.findByRoleName(roleName));
+        assertEquals(hits + 1, stats.getQueryCacheHitCount());
+    }
+}
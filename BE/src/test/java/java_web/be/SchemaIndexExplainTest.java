@@ -0,0 +1,186 @@
+package java_web.be;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Runs EXPLAIN against the Flyway-built schema for the SQL behind the hot repository queries
+ * and fails unless the optimizer picks the intended access-path index. Rows are seeded (and
+ * rolled back) so the choice is made against realistic cardinalities, not empty tables.
+ */
+@SpringBootTest
+@Transactional
+class SchemaIndexExplainTest {
+
+    // clear of ids handed out by id_generators on a dev database
+    private static final long BASE = 900_000_000L;
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            users.add(new Object[]{BASE + i, "explain-" + i + "@example.com"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (user_id, first_name, last_name, email, password_hash) " +
+                "VALUES (?, 'Explain', 'User', ?, 'x')", users);
+
+        List<Object[]> hotels = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            hotels.add(new Object[]{BASE + i, "Explain Hotel " + i, "City " + (i % 10), "Country " + (i % 5),
+                    "A quiet place near the beach " + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO hotels (hotel_id, hotel_name, city, country, description) " +
+                "VALUES (?, ?, ?, ?, ?)", hotels);
+
+        List<Object[]> roomTypes = new ArrayList<>();
+        List<Object[]> nights = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            roomTypes.add(new Object[]{BASE + i, BASE + i});
+            for (int d = 0; d < 60; d++) {
+                nights.add(new Object[]{BASE + i, LocalDate.of(2026, 1, 1).plusDays(d)});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO room_types (room_type_id, hotel_id, type_name, base_price, capacity, total_rooms) " +
+                "VALUES (?, ?, 'Double', 100.00, 2, 5)", roomTypes);
+        jdbcTemplate.batchUpdate("INSERT INTO room_availability (room_type_id, date, available_rooms) VALUES (?, ?, 5)", nights);
+
+        List<Object[]> bookings = new ArrayList<>();
+        List<Object[]> reviews = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            long id = BASE + i;
+            String status = i % 50 == 0 ? "PENDING" : "CONFIRMED";
+            bookings.add(new Object[]{id, BASE + i % 100, BASE + i % 20, status,
+                    Timestamp.from(NOW.minus(i, ChronoUnit.HOURS))});
+            if (i < 500) {
+                reviews.add(new Object[]{id, id, BASE + i % 100, BASE + i % 50,
+                        Timestamp.from(NOW.minus(i, ChronoUnit.HOURS))});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO bookings (booking_id, user_id, room_type_id, check_in, check_out, " +
+                "total_price, status, created_at) VALUES (?, ?, ?, '2026-02-01', '2026-02-03', 200.00, ?, ?)", bookings);
+        jdbcTemplate.batchUpdate("INSERT INTO reviews (review_id, booking_id, user_id, hotel_id, rating, created_at) " +
+                "VALUES (?, ?, ?, ?, 4, ?)", reviews);
+
+        List<Object[]> tokens = new ArrayList<>();
+        List<Object[]> events = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            tokens.add(new Object[]{BASE + i, String.format("%064d", BASE + i), i % 3 == 0, BASE + i % 100});
+            events.add(new Object[]{BASE + i, i % 20 == 0 ? "PENDING" : "SENT",
+                    Timestamp.from(NOW.minus(i, ChronoUnit.MINUTES))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tokens (id, token_hash, expired, revoked, user_id) VALUES (?, ?, 0, ?, ?)", tokens);
+        jdbcTemplate.batchUpdate("INSERT INTO outbox_events (id, event_type, aggregate_id, payload, status, attempts, " +
+                "next_attempt_at) VALUES (?, 'PAYMENT_CHARGE', 1, '{}', ?, 0, ?)", events);
+    }
+
+    @Test
+    void bookingHistoryByUserUsesCompositeIndex() {
+        assertUsesIndex("""
+                SELECT b.booking_id FROM bookings b
+                WHERE b.user_id = 900000001
+                  AND (b.created_at < '2026-01-01' OR (b.created_at = '2026-01-01' AND b.booking_id < 900001000))
+                ORDER BY b.created_at DESC, b.booking_id DESC LIMIT 21
+                """, "b", "idx_booking_user_created");
+    }
+
+    @Test
+    void bookingHistoryByRoomTypeUsesCompositeIndex() {
+        assertUsesIndex("""
+                SELECT b.booking_id FROM bookings b
+                WHERE b.room_type_id = 900000001
+                  AND (b.created_at < '2026-01-01' OR (b.created_at = '2026-01-01' AND b.booking_id < 900001000))
+                ORDER BY b.created_at DESC, b.booking_id DESC LIMIT 21
+                """, "b", "idx_booking_roomtype_created");
+    }
+
+    @Test
+    void expiryScanUsesStatusIndex() {
+        assertUsesIndex("""
+                SELECT b.booking_id FROM bookings b
+                WHERE b.status = 'PENDING' AND b.created_at < '2026-01-01'
+                ORDER BY b.created_at LIMIT 200
+                """, "b", "idx_booking_status_created");
+    }
+
+    @Test
+    void availabilityRangeUsesRoomTypeDateIndex() {
+        assertUsesIndex("""
+                SELECT ra.date, ra.available_rooms FROM room_availability ra
+                WHERE ra.room_type_id = 900000001 AND ra.date >= '2026-01-10' AND ra.date < '2026-01-17'
+                """, "ra", "idx_availability_roomtype_date");
+    }
+
+    @Test
+    void reviewsByHotelUseHotelCreatedIndex() {
+        assertUsesIndex("""
+                SELECT r.review_id FROM reviews r
+                WHERE r.hotel_id = 900000001
+                ORDER BY r.created_at DESC LIMIT 20
+                """, "r", "idx_review_hotel_created");
+    }
+
+    @Test
+    void activeTokensByUserUseUserRevokedIndex() {
+        assertUsesIndex("""
+                SELECT t.id, t.token_hash FROM tokens t
+                WHERE t.user_id = 900000001 AND t.revoked = false
+                """, "t", "idx_token_user_revoked");
+    }
+
+    @Test
+    void hotelSearchUsesCityCountryIndex() {
+        assertUsesIndex("SELECT h.hotel_id FROM hotels h WHERE h.city = 'City 3' AND h.hotel_id > 0",
+                "h", "idx_hotel_city_country");
+        assertUsesIndex("SELECT h.hotel_id FROM hotels h WHERE h.city = 'City 3' AND h.country = 'Country 3'",
+                "h", "idx_hotel_city_country");
+    }
+
+    @Test
+    void outboxClaimUsesDueIndex() {
+        assertUsesIndex("""
+                SELECT o.id FROM outbox_events o
+                WHERE o.status = 'PENDING' AND o.next_attempt_at <= '2026-01-01'
+                ORDER BY o.next_attempt_at, o.id LIMIT 100
+                """, "o", "idx_outbox_due");
+    }
+
+    @Test
+    void keywordSearchUsesFulltextIndex() {
+        assertUsesIndex("""
+                SELECT h.hotel_id FROM hotels h
+                WHERE MATCH (h.hotel_name, h.city, h.address, h.description) AGAINST ('+beach*' IN BOOLEAN MODE)
+                """, "h", "ft_hotel_search");
+    }
+
+    private void assertUsesIndex(String sql, String alias, String expectedKey) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+        Map<String, Object> row = plan.stream()
+                .filter(r -> alias.equals(r.get("table")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No plan row for " + alias + ": " + plan));
+
+        // ALL is a table scan, index a scan of a whole index: neither is an access path
+        Object type = row.get("type");
+        assertFalse("ALL".equals(type) || "index".equals(type), () -> "Full scan on " + alias + ": " + row);
+        assertEquals(expectedKey, row.get("key"), () -> "Wrong index on " + alias + ": " + row);
+    }
+}
@@ -0,0 +1,39 @@
+package java_web.be;
+
+import java_web.be.model.id.TimeOrderedIdGenerator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeOrderedIdGeneratorTest {
+
+    private static final long EPOCH_MILLIS = 1735689600000L;
+
+    @BeforeAll
+    static void setNodeId() {
+        TimeOrderedIdGenerator.setNodeId(3);
+    }
+
+    @Test
+    void idsStartAheadOfTheClockAndNeverRunMoreThanTheLeadAhead() {
+        long previous = 0;
+        // 200k ids is far more than 128 per millisecond, so the generator has to hit its lead limit
+        for (int i = 0; i < 200_000; i++) {
+            long id = TimeOrderedIdGenerator.nextId();
+            assertTrue(id > previous);
+            assertTrue(id < 1L << 53);
+            long lead = (id >>> 12) - (System.currentTimeMillis() - EPOCH_MILLIS);
+            assertTrue(lead <= 1000, () -> "id runs " + lead + " ms ahead of the clock");
+            assertTrue(((id >>> 7) & 31) == 3);
+            previous = id;
+        }
+    }
+
+    @Test
+    void rejectsNodeIdsOutsideFiveBits() {
+        assertThrows(IllegalArgumentException.class, () -> TimeOrderedIdGenerator.setNodeId(32));
+        assertThrows(IllegalArgumentException.class, () -> TimeOrderedIdGenerator.setNodeId(-1));
+    }
+}
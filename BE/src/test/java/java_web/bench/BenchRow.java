@@ -0,0 +1,37 @@
+package java_web.bench;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row shape shared by the insert benchmark entities. Every subclass maps the same
+ * bench_inserts table and differs only in how its id is assigned. The package sits outside
+ * java_web.be so the application's entity scan never sees these classes; only
+ * InsertThroughputBenchmarkTest's own persistence unit maps them.
+ */
+@MappedSuperclass
+public abstract class BenchRow {
+
+    @Column(nullable = false, length = 64)
+    private String payload;
+
+    @Column(nullable = false)
+    private int amount;
+
+    // named explicitly: this persistence unit does not get Spring's snake_case naming strategy
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected BenchRow() {
+    }
+
+    protected BenchRow(String payload, int amount, LocalDateTime createdAt) {
+        this.payload = payload;
+        this.amount = amount;
+        this.createdAt = createdAt;
+    }
+
+    public abstract Long getId();
+}
@@ -0,0 +1,27 @@
+package java_web.bench;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// IDENTITY: Hibernate needs the generated key back, so every persist is its own INSERT
+@Entity
+@Table(name = "bench_inserts")
+public class IdentityBenchRow extends BenchRow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    protected IdentityBenchRow() {
+    }
+
+    public IdentityBenchRow(String payload, int amount, LocalDateTime createdAt) {
+        super(payload, amount, createdAt);
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,29 @@
+package java_web.bench;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// the id_generators table generator the entities used before @TimeOrderedId
+@Entity
+@Table(name = "bench_inserts")
+public class PooledBenchRow extends BenchRow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "bench_inserts_id")
+    @TableGenerator(name = "bench_inserts_id", table = "id_generators", pkColumnName = "gen_name",
+            valueColumnName = "next_val", pkColumnValue = "bench_inserts", allocationSize = 50)
+    private Long id;
+
+    protected PooledBenchRow() {
+    }
+
+    public PooledBenchRow(String payload, int amount, LocalDateTime createdAt) {
+        super(payload, amount, createdAt);
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,29 @@
+package java_web.bench;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java_web.be.model.id.TimeOrderedId;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "bench_inserts")
+public class TimeOrderedBenchRow extends BenchRow {
+
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    protected TimeOrderedBenchRow() {
+    }
+
+    public TimeOrderedBenchRow(String payload, int amount, LocalDateTime createdAt) {
+        super(payload, amount, createdAt);
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+}
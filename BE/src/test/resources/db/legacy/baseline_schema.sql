@@ -0,0 +1,170 @@
+-- Schema as ddl-auto=update created it from the entities of the first commit in this
+-- repository (IDENTITY ids, raw token_value, enum columns, no outbox/summary/id tables).
+-- FlywayUpgradeTest migrates a copy of it to prove baselined databases reach the current schema.
+CREATE TABLE roles (
+    role_id   BIGINT NOT NULL AUTO_INCREMENT,
+    role_name VARCHAR(100) NOT NULL,
+    PRIMARY KEY (role_id),
+    CONSTRAINT UK_roles_role_name UNIQUE (role_name)
+) ENGINE = InnoDB;
+
+CREATE TABLE users (
+    user_id       BIGINT NOT NULL AUTO_INCREMENT,
+    first_name    VARCHAR(255) NOT NULL,
+    last_name     VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) NOT NULL,
+    password_hash VARCHAR(255) NOT NULL,
+    phone_number  VARCHAR(20),
+    date_of_birth DATE,
+    gender        ENUM ('MALE','FEMALE','OTHER'),
+    avatar_url    VARCHAR(255),
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    PRIMARY KEY (user_id),
+    CONSTRAINT UK_users_email UNIQUE (email),
+    INDEX idx_user_email (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL,
+    role_id BIGINT NOT NULL,
+    PRIMARY KEY (user_id, role_id),
+    CONSTRAINT FK_user_roles_role FOREIGN KEY (role_id) REFERENCES roles (role_id),
+    CONSTRAINT FK_user_roles_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE tokens (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    token_value VARCHAR(512) NOT NULL,
+    expired     BIT NOT NULL,
+    revoked     BIT NOT NULL,
+    user_id     BIGINT,
+    created_at  DATETIME(6),
+    revoked_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT UK_tokens_token_value UNIQUE (token_value),
+    CONSTRAINT FK_tokens_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE hotels (
+    hotel_id    BIGINT NOT NULL AUTO_INCREMENT,
+    hotel_name  VARCHAR(255) NOT NULL,
+    address     LONGTEXT,
+    city        VARCHAR(100),
+    country     VARCHAR(100),
+    description LONGTEXT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    owner_id    BIGINT,
+    PRIMARY KEY (hotel_id),
+    CONSTRAINT FK_hotels_owner FOREIGN KEY (owner_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE hotel_images (
+    image_id  BIGINT NOT NULL AUTO_INCREMENT,
+    image_url VARCHAR(255) NOT NULL,
+    hotel_id  BIGINT NOT NULL,
+    PRIMARY KEY (image_id),
+    CONSTRAINT FK_hotel_images_hotel FOREIGN KEY (hotel_id) REFERENCES hotels (hotel_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE facilities (
+    facility_id BIGINT NOT NULL AUTO_INCREMENT,
+    name        VARCHAR(255) NOT NULL,
+    PRIMARY KEY (facility_id),
+    CONSTRAINT UK_facilities_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE hotel_facilities (
+    hotel_id    BIGINT NOT NULL,
+    facility_id BIGINT NOT NULL,
+    PRIMARY KEY (hotel_id, facility_id),
+    CONSTRAINT FK_hotel_facilities_facility FOREIGN KEY (facility_id) REFERENCES facilities (facility_id),
+    CONSTRAINT FK_hotel_facilities_hotel FOREIGN KEY (hotel_id) REFERENCES hotels (hotel_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE room_types (
+    room_type_id BIGINT NOT NULL AUTO_INCREMENT,
+    hotel_id     BIGINT NOT NULL,
+    type_name    VARCHAR(100) NOT NULL,
+    base_price   DECIMAL(38, 2) NOT NULL,
+    capacity     INT NOT NULL,
+    total_rooms  INT NOT NULL,
+    description  LONGTEXT,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    PRIMARY KEY (room_type_id),
+    INDEX idx_roomtype_hotel (hotel_id),
+    CONSTRAINT FK_room_types_hotel FOREIGN KEY (hotel_id) REFERENCES hotels (hotel_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE room_availability (
+    availability_id BIGINT NOT NULL AUTO_INCREMENT,
+    room_type_id    BIGINT NOT NULL,
+    date            DATE NOT NULL,
+    available_rooms INT NOT NULL,
+    PRIMARY KEY (availability_id),
+    CONSTRAINT UK_room_availability_type_date UNIQUE (room_type_id, date),
+    CONSTRAINT FK_room_availability_room_type FOREIGN KEY (room_type_id) REFERENCES room_types (room_type_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE bookings (
+    booking_id     BIGINT NOT NULL AUTO_INCREMENT,
+    user_id        BIGINT,
+    room_type_id   BIGINT NOT NULL,
+    check_in       DATE NOT NULL,
+    check_out      DATE NOT NULL,
+    total_price    DECIMAL(38, 2) NOT NULL,
+    status         ENUM ('PENDING','CONFIRMED','CANCELLED'),
+    adults_count   INT,
+    children_count INT,
+    infants_count  INT,
+    created_at     DATETIME(6),
+    updated_at     DATETIME(6),
+    PRIMARY KEY (booking_id),
+    INDEX idx_booking_user (user_id),
+    INDEX idx_booking_roomtype (room_type_id),
+    CONSTRAINT FK_bookings_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT FK_bookings_room_type FOREIGN KEY (room_type_id) REFERENCES room_types (room_type_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE payments (
+    payment_id BIGINT NOT NULL AUTO_INCREMENT,
+    booking_id BIGINT NOT NULL,
+    amount     DECIMAL(38, 2) NOT NULL,
+    method     ENUM ('CASH','CARD','MOMO','BANK'),
+    status     ENUM ('PENDING','PAID','FAILED','REFUNDED'),
+    paid_at    DATETIME(6),
+    created_at DATETIME(6),
+    PRIMARY KEY (payment_id),
+    CONSTRAINT UK_payments_booking UNIQUE (booking_id),
+    CONSTRAINT FK_payments_booking FOREIGN KEY (booking_id) REFERENCES bookings (booking_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE reviews (
+    review_id  BIGINT NOT NULL AUTO_INCREMENT,
+    booking_id BIGINT NOT NULL,
+    user_id    BIGINT NOT NULL,
+    hotel_id   BIGINT NOT NULL,
+    rating     INT,
+    comment    LONGTEXT,
+    created_at DATETIME(6),
+    PRIMARY KEY (review_id),
+    CONSTRAINT UK_reviews_booking UNIQUE (booking_id),
+    INDEX idx_review_hotel (hotel_id),
+    CONSTRAINT FK_reviews_booking FOREIGN KEY (booking_id) REFERENCES bookings (booking_id),
+    CONSTRAINT FK_reviews_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT FK_reviews_hotel FOREIGN KEY (hotel_id) REFERENCES hotels (hotel_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE comments (
+    comment_id BIGINT NOT NULL AUTO_INCREMENT,
+    review_id  BIGINT NOT NULL,
+    user_id    BIGINT NOT NULL,
+    comment    LONGTEXT NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (comment_id),
+    INDEX idx_comment_review (review_id),
+    CONSTRAINT FK_comments_review FOREIGN KEY (review_id) REFERENCES reviews (review_id),
+    CONSTRAINT FK_comments_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;